@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.constant.enums;
+
+/**
+ * 容器容量淘汰策略枚举
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public enum EvictionPolicyEnum {
+    /**
+     * 不限制容量，不淘汰
+     */
+    NONE,
+    /**
+     * 先进先出
+     */
+    FIFO,
+    /**
+     * 最近最少使用
+     */
+    LRU,
+    ;
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.constant.enums;
+
+/**
+ * 容器元素过期策略枚举
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public enum ExpiryPolicyEnum {
+    /**
+     * 写入后固定时长过期
+     */
+    AFTER_WRITE,
+    /**
+     * 最后一次访问(读或写)后固定时长过期
+     */
+    AFTER_ACCESS,
+    ;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.constant.enums;
+
+/**
+ * 数字解析结果状态枚举
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public enum NumberParseStatusEnum {
+    /**
+     * 解析成功
+     */
+    SUCCESS,
+    /**
+     * 待解析内容为空
+     */
+    EMPTY,
+    /**
+     * 存在非法字符或格式不符合预期
+     */
+    INVALID_FORMAT,
+    /**
+     * 超出目标类型可表示的范围
+     */
+    OVERFLOW,
+    /**
+     * 可以表示，但超出调用方指定的范围
+     */
+    OUT_OF_RANGE,
+    ;
+}
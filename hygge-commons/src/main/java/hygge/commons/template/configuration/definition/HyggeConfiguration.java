@@ -18,6 +18,9 @@ package hygge.commons.template.configuration.definition;
 
 import hygge.commons.template.configuration.inner.HyggeConfigurationItem;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
@@ -81,6 +84,21 @@ public interface HyggeConfiguration {
      */
     Collection<HyggeConfigurationItem<?>> getItems();
 
+    /**
+     * 获取 key 以特定前缀开头的全部配置项
+     *
+     * @param prefix 前缀(按字面匹配，如需匹配命名空间请以 "." 结尾)
+     */
+    default List<HyggeConfigurationItem<?>> getItemsByPrefix(String prefix) {
+        List<HyggeConfigurationItem<?>> result = new ArrayList<>();
+        for (HyggeConfigurationItem<?> item : getItems()) {
+            if (item.getKey().startsWith(prefix)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
     /**
      * 与另一个 hygge 配置项取并集
      *
@@ -92,4 +110,81 @@ public interface HyggeConfiguration {
      * 转换成 Properties
      */
     Properties toProperties();
+
+    /**
+     * 获取类型化读取配置项时使用的值转换器
+     */
+    HyggeConfigurationValueParser getValueParser();
+
+    /**
+     * 以 int 形式读取配置项，转换结果缓存在配置项上，重复读取不会再次解析
+     *
+     * @param key          键
+     * @param defaultValue 配置项不存在或值为空时的默认值
+     */
+    default int getIntValue(String key, int defaultValue) {
+        HyggeConfigurationItem<?> item = getItem(key);
+        Integer result = item == null ? null : item.getIntegerValue(getValueParser());
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 以 long 形式读取配置项，转换结果缓存在配置项上，重复读取不会再次解析
+     *
+     * @param key          键
+     * @param defaultValue 配置项不存在或值为空时的默认值
+     */
+    default long getLongValue(String key, long defaultValue) {
+        HyggeConfigurationItem<?> item = getItem(key);
+        Long result = item == null ? null : item.getLongValue(getValueParser());
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 以 boolean 形式读取配置项，转换结果缓存在配置项上，重复读取不会再次解析
+     *
+     * @param key          键
+     * @param defaultValue 配置项不存在或值为空时的默认值
+     */
+    default boolean getBooleanValue(String key, boolean defaultValue) {
+        HyggeConfigurationItem<?> item = getItem(key);
+        Boolean result = item == null ? null : item.getBooleanValue(getValueParser());
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 以 BigDecimal 形式读取配置项，转换结果缓存在配置项上，重复读取不会再次解析
+     *
+     * @param key          键
+     * @param defaultValue 配置项不存在或值为空时的默认值
+     */
+    default BigDecimal getBigDecimalValue(String key, BigDecimal defaultValue) {
+        HyggeConfigurationItem<?> item = getItem(key);
+        BigDecimal result = item == null ? null : item.getBigDecimalValue(getValueParser());
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 以时间段形式读取配置项，转换结果缓存在配置项上，重复读取不会再次解析
+     *
+     * @param key          键
+     * @param defaultValue 配置项不存在或值为空时的默认值
+     */
+    default Duration getDurationValue(String key, Duration defaultValue) {
+        HyggeConfigurationItem<?> item = getItem(key);
+        Duration result = item == null ? null : item.getDurationValue(getValueParser());
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 以字节为单位的存储大小形式读取配置项，转换结果缓存在配置项上，重复读取不会再次解析
+     *
+     * @param key          键
+     * @param defaultValue 配置项不存在或值为空时的默认值
+     */
+    default long getStorageBytesValue(String key, long defaultValue) {
+        HyggeConfigurationItem<?> item = getItem(key);
+        Long result = item == null ? null : item.getStorageBytesValue(getValueParser());
+        return result == null ? defaultValue : result;
+    }
 }
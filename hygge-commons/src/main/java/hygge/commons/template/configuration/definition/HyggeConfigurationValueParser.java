@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.configuration.definition;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * hygge 配置项值转换器，用于把配置项的原始值转换为类型化视图
+ * <p>
+ * 所有方法在原始值为 null 或空字符串时返回 null，无法转换时抛出异常；
+ * 转换结果会被 {@link hygge.commons.template.configuration.inner.HyggeConfigurationItem} 缓存，因此实现必须是无状态的纯函数
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface HyggeConfigurationValueParser {
+    /**
+     * 转换为 Integer
+     *
+     * @param key   配置项键，用于异常提示
+     * @param value 配置项原始值
+     */
+    Integer parseInteger(String key, Object value);
+
+    /**
+     * 转换为 Long
+     *
+     * @param key   配置项键，用于异常提示
+     * @param value 配置项原始值
+     */
+    Long parseLong(String key, Object value);
+
+    /**
+     * 转换为 Boolean
+     *
+     * @param key   配置项键，用于异常提示
+     * @param value 配置项原始值
+     */
+    Boolean parseBoolean(String key, Object value);
+
+    /**
+     * 转换为 BigDecimal(不调整精度)
+     *
+     * @param key   配置项键，用于异常提示
+     * @param value 配置项原始值
+     */
+    BigDecimal parseBigDecimal(String key, Object value);
+
+    /**
+     * 转换为时间段
+     *
+     * @param key   配置项键，用于异常提示
+     * @param value 配置项原始值
+     */
+    Duration parseDuration(String key, Object value);
+
+    /**
+     * 转换为以字节为单位的存储大小
+     *
+     * @param key   配置项键，用于异常提示
+     * @param value 配置项原始值
+     */
+    Long parseStorageBytes(String key, Object value);
+}
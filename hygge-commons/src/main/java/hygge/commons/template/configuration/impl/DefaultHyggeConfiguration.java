@@ -19,11 +19,14 @@ package hygge.commons.template.configuration.impl;
 
 import hygge.commons.constant.enums.ColumnTypeEnum;
 import hygge.commons.template.configuration.definition.HyggeConfiguration;
+import hygge.commons.template.configuration.definition.HyggeConfigurationValueParser;
 import hygge.commons.template.configuration.inner.HyggeConfigurationItem;
 import hygge.commons.template.configuration.inner.HyggeConfigurationItemKeeper;
+import hygge.commons.template.configuration.inner.HyggeConfigurationSnapshot;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -31,6 +34,9 @@ import java.util.Set;
 
 /**
  * Hygge 配置项(每一个 key 都只能对应唯一的值)
+ * <p>
+ * 内部以写时复制的不可变快照 {@link HyggeConfigurationSnapshot} 存储：读操作只读取一次 volatile 引用，无锁且始终看到一致的视图；
+ * 写操作之间互斥，基于当前快照构造出下一个快照后整体发布
  *
  * @author Xavier
  * @date 2022/6/25
@@ -42,25 +48,33 @@ public class DefaultHyggeConfiguration implements HyggeConfiguration {
      */
     public static final int DEFAULT_CUSTOM_ORDER = 0;
     /**
-     * 配置项容器
+     * 写操作互斥锁，读操作不需要
      */
-    private final HyggeConfigurationItemKeeper propertiesKeeper;
+    private final Object writeLock = new Object();
+    /**
+     * 当前已发布的配置项快照
+     */
+    private volatile HyggeConfigurationSnapshot snapshot;
+    /**
+     * 类型化读取配置项时使用的值转换器
+     */
+    private volatile HyggeConfigurationValueParser valueParser = DefaultHyggeConfigurationValueParser.getGlobalDefault();
 
     public DefaultHyggeConfiguration() {
-        this.propertiesKeeper = new HyggeConfigurationItemKeeper();
+        this.snapshot = HyggeConfigurationSnapshot.EMPTY;
     }
 
     public DefaultHyggeConfiguration(Properties properties, int order) {
-        this.propertiesKeeper = new HyggeConfigurationItemKeeper(properties.size(), 1F);
-
+        Map<String, HyggeConfigurationItem<?>> items = new HashMap<>(Math.max((int) (properties.size() / 0.75F) + 1, 16));
         for (Map.Entry<Object, Object> entry : properties.entrySet()) {
             HyggeConfigurationItem<?> newItem = new HyggeConfigurationItem<>(entry.getKey().toString(), ColumnTypeEnum.analyseColumnType(entry.getValue()), entry.getValue(), order);
-            propertiesKeeper.saveValue(newItem.getKey(), newItem);
+            items.put(newItem.getKey(), newItem);
         }
+        this.snapshot = HyggeConfigurationSnapshot.EMPTY.next(items);
     }
 
     public DefaultHyggeConfiguration(HyggeConfigurationItemKeeper propertiesKeeper) {
-        this.propertiesKeeper = propertiesKeeper;
+        this.snapshot = HyggeConfigurationSnapshot.of(propertiesKeeper.getContainer(), 1L);
     }
 
     @Override
@@ -75,50 +89,104 @@ public class DefaultHyggeConfiguration implements HyggeConfiguration {
 
     @Override
     public HyggeConfigurationItem<?> putItem(String key, Object value, int order) {
-        synchronized (propertiesKeeper) {
-            if (propertiesKeeper.containsKey(key)) {
-                HyggeConfigurationItem<?> old = propertiesKeeper.getValue(key);
-                if (old.getOrder() >= order) {
-                    HyggeConfigurationItem<?> newOne = new HyggeConfigurationItem<>(key, ColumnTypeEnum.analyseColumnType(value), value, order);
-                    return propertiesKeeper.saveValue(key, newOne);
-                }
+        synchronized (writeLock) {
+            HyggeConfigurationSnapshot current = snapshot;
+            HyggeConfigurationItem<?> old = current.getItem(key);
+            if (old != null && old.getOrder() < order) {
                 return old;
-            } else {
-                HyggeConfigurationItem<?> item = new HyggeConfigurationItem<>(key, ColumnTypeEnum.analyseColumnType(value), value, order);
-                return propertiesKeeper.saveValue(key, item);
             }
+            Map<String, HyggeConfigurationItem<?>> nextItems = current.mutableCopy(old == null ? 1 : 0);
+            nextItems.put(key, new HyggeConfigurationItem<>(key, ColumnTypeEnum.analyseColumnType(value), value, order));
+            snapshot = current.next(nextItems);
+            return old;
         }
     }
 
+    @Override
     public boolean containsKey(String key) {
-        return propertiesKeeper.containsKey(key);
+        return snapshot.containsKey(key);
     }
 
     @Override
     public HyggeConfigurationItem<?> getItem(String key) {
-        return propertiesKeeper.getValue(key);
+        return snapshot.getItem(key);
     }
 
+    /**
+     * 返回当前快照的只读 key 集合，后续写入不会反映到已返回的集合中
+     */
     @Override
     public Set<String> getKeys() {
-        return propertiesKeeper.getContainer().keySet();
+        return snapshot.getKeys();
     }
 
+    /**
+     * 返回当前快照的只读配置项集合，后续写入不会反映到已返回的集合中
+     */
     @Override
     public Collection<HyggeConfigurationItem<?>> getItems() {
-        return propertiesKeeper.getContainer().values();
+        return snapshot.getItems();
     }
 
+    /**
+     * 基于前缀索引查找，只在首次调用时为当前快照排序一次 key
+     */
+    @Override
+    public List<HyggeConfigurationItem<?>> getItemsByPrefix(String prefix) {
+        return snapshot.getItemsByPrefix(prefix);
+    }
+
+    /**
+     * 获取以 prefix 为命名空间的子配置视图
+     * <p>
+     * 视图中的 key 均为去除 prefix 后的相对 key，读写直接作用于本配置
+     *
+     * @param prefix 前缀(按字面匹配，如需匹配命名空间请以 "." 结尾)
+     */
+    public HyggeConfiguration subConfiguration(String prefix) {
+        return new PrefixHyggeConfigurationView(this, prefix);
+    }
+
+    /**
+     * 一次性复制当前快照并应用全部待合并配置项，最终只发布一个新快照，读线程不会看到合并到一半的状态
+     */
     @Override
     public List<HyggeConfigurationItem<?>> mergeConfiguration(HyggeConfiguration mergeTarget) {
+        return mergeConfiguration("", mergeTarget);
+    }
+
+    /**
+     * 将另一个 hygge 配置项合并到 prefix 命名空间下，即 mergeTarget 中的 key 会以 prefix + key 的形式写入
+     * <p>
+     * 与 {@link DefaultHyggeConfiguration#mergeConfiguration(HyggeConfiguration)} 一样只发布一个新快照
+     *
+     * @param prefix      前缀
+     * @param mergeTarget 待合并的配置项
+     * @return 所有发生冲突而被覆盖的旧配置项
+     */
+    public List<HyggeConfigurationItem<?>> mergeConfiguration(String prefix, HyggeConfiguration mergeTarget) {
         if (mergeTarget == null) {
             return new ArrayList<>(0);
         }
+        Collection<HyggeConfigurationItem<?>> mergeItems = mergeTarget.getItems();
         List<HyggeConfigurationItem<?>> replaceItemList = new ArrayList<>();
-        for (HyggeConfigurationItem<?> item : mergeTarget.getItems()) {
-            HyggeConfigurationItem<?> oldItem = putItem(item.getKey(), item.getValue(), item.getOrder());
-            if (oldItem != null) {
-                replaceItemList.add(oldItem);
+        synchronized (writeLock) {
+            HyggeConfigurationSnapshot current = snapshot;
+            Map<String, HyggeConfigurationItem<?>> nextItems = current.mutableCopy(mergeItems.size());
+            boolean changed = false;
+            for (HyggeConfigurationItem<?> item : mergeItems) {
+                String key = prefix.isEmpty() ? item.getKey() : prefix + item.getKey();
+                HyggeConfigurationItem<?> oldItem = nextItems.get(key);
+                if (oldItem == null || oldItem.getOrder() >= item.getOrder()) {
+                    nextItems.put(key, new HyggeConfigurationItem<>(key, ColumnTypeEnum.analyseColumnType(item.getValue()), item.getValue(), item.getOrder()));
+                    changed = true;
+                }
+                if (oldItem != null) {
+                    replaceItemList.add(oldItem);
+                }
+            }
+            if (changed) {
+                snapshot = current.next(nextItems);
             }
         }
         return replaceItemList;
@@ -137,7 +205,31 @@ public class DefaultHyggeConfiguration implements HyggeConfiguration {
         return result;
     }
 
+    @Override
+    public HyggeConfigurationValueParser getValueParser() {
+        return valueParser;
+    }
+
+    /**
+     * 替换值转换器，配置项上已缓存的类型化视图会在下次读取时按新转换器重新计算
+     */
+    public void setValueParser(HyggeConfigurationValueParser valueParser) {
+        this.valueParser = valueParser == null ? DefaultHyggeConfigurationValueParser.getGlobalDefault() : valueParser;
+    }
+
+    /**
+     * 获取当前已发布的配置项快照
+     */
+    public HyggeConfigurationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 以当前快照内容创建一个独立的配置项容器，对其修改不会回写到本配置中
+     */
     public HyggeConfigurationItemKeeper getPropertiesKeeper() {
-        return propertiesKeeper;
+        HyggeConfigurationItemKeeper result = new HyggeConfigurationItemKeeper();
+        result.setContainer(snapshot.mutableCopy(0));
+        return result;
     }
 }
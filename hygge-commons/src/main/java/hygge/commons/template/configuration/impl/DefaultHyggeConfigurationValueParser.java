@@ -0,0 +1,270 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.configuration.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.configuration.definition.HyggeConfigurationValueParser;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 默认的 hygge 配置项值转换器，仅依赖 JDK
+ * <p>
+ * 布尔值接受 "1"/"true"/"TRUE" 与 "0"/"false"/"FALSE"；<br/>
+ * 时间段接受 ISO-8601 格式(如 "PT5S")或 数字+单位(ns/us/ms/s/m/h/d，缺省为 ms)，纯数字视为毫秒；<br/>
+ * 存储大小接受 数字+单位(K/M/G/T，可带 B 后缀，缺省为字节)，换算结果必须是不超过 long 范围的整数字节数。
+ * <p>
+ * {@link DefaultHyggeConfigurationValueParser#getGlobalDefault()} 会优先使用通过 SPI 注册的实现，
+ * 引入 hygge-util-core 时即为与 ParameterHelper 校验规则一致的 HelperBasedConfigurationValueParser
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class DefaultHyggeConfigurationValueParser implements HyggeConfigurationValueParser {
+    public static final DefaultHyggeConfigurationValueParser INSTANCE = new DefaultHyggeConfigurationValueParser();
+    private static volatile HyggeConfigurationValueParser globalDefault;
+
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(-?[0-9]+)\\s*(ns|us|ms|s|m|h|d)?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern STORAGE_PATTERN = Pattern.compile("([0-9]+([.][0-9]+)?)\\s*(|K|M|G|T)B?", Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public Integer parseInteger(String key, Object value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value instanceof Number) {
+            long result = exactLongValue(key, (Number) value, Integer.class.getSimpleName());
+            try {
+                return Math.toIntExact(result);
+            } catch (ArithmeticException e) {
+                throw new UtilRuntimeException(unexpectedValue(key, value, Integer.class.getSimpleName()), e);
+            }
+        }
+        try {
+            return Integer.valueOf(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, Integer.class.getSimpleName()), e);
+        }
+    }
+
+    @Override
+    public Long parseLong(String key, Object value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return exactLongValue(key, (Number) value, Long.class.getSimpleName());
+        }
+        try {
+            return Long.valueOf(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, Long.class.getSimpleName()), e);
+        }
+    }
+
+    @Override
+    public Boolean parseBoolean(String key, Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (isEmpty(value)) {
+            return null;
+        }
+        switch (value.toString().trim()) {
+            case "1":
+            case "true":
+            case "TRUE":
+                return Boolean.TRUE;
+            case "0":
+            case "false":
+            case "FALSE":
+                return Boolean.FALSE;
+            default:
+                throw new UtilRuntimeException(unexpectedValue(key, value, "[\"0\",\"1\",\"false\",\"true\",\"FALSE\",\"TRUE\"]"));
+        }
+    }
+
+    @Override
+    public BigDecimal parseBigDecimal(String key, Object value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, BigDecimal.class.getSimpleName()), e);
+        }
+    }
+
+    @Override
+    public Duration parseDuration(String key, Object value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value instanceof Duration) {
+            return (Duration) value;
+        }
+        if (value instanceof Number) {
+            return Duration.ofMillis(((Number) value).longValue());
+        }
+        String text = value.toString().trim();
+        try {
+            char first = text.charAt(0);
+            if (first == 'P' || first == 'p' || (text.length() > 1 && first == '-' && (text.charAt(1) == 'P' || text.charAt(1) == 'p'))) {
+                return Duration.parse(text);
+            }
+            Matcher matcher = DURATION_PATTERN.matcher(text);
+            if (matcher.matches()) {
+                long amount = Long.parseLong(matcher.group(1));
+                String unit = matcher.group(2);
+                if (unit == null) {
+                    return Duration.ofMillis(amount);
+                }
+                switch (unit.toLowerCase()) {
+                    case "ns":
+                        return Duration.ofNanos(amount);
+                    case "us":
+                        return Duration.ofNanos(Math.multiplyExact(amount, 1000L));
+                    case "ms":
+                        return Duration.ofMillis(amount);
+                    case "s":
+                        return Duration.ofSeconds(amount);
+                    case "m":
+                        return Duration.ofMinutes(amount);
+                    case "h":
+                        return Duration.ofHours(amount);
+                    default:
+                        return Duration.ofDays(amount);
+                }
+            }
+        } catch (DateTimeParseException | ArithmeticException | NumberFormatException e) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, Duration.class.getSimpleName()), e);
+        }
+        throw new UtilRuntimeException(unexpectedValue(key, value, Duration.class.getSimpleName()));
+    }
+
+    @Override
+    public Long parseStorageBytes(String key, Object value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return exactLongValue(key, (Number) value, "storage size within long range and of whole bytes");
+        }
+        Matcher matcher = STORAGE_PATTERN.matcher(value.toString().trim());
+        if (!matcher.matches()) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, "storage size"));
+        }
+        BigDecimal quantity = new BigDecimal(matcher.group(1));
+        int shift;
+        switch (matcher.group(3).toUpperCase()) {
+            case "K":
+                shift = 10;
+                break;
+            case "M":
+                shift = 20;
+                break;
+            case "G":
+                shift = 30;
+                break;
+            case "T":
+                shift = 40;
+                break;
+            default:
+                shift = 0;
+        }
+        try {
+            // 溢出或换算后仍带小数(如 "1.5" 字节)时拒绝，而不是静默截断或回绕
+            return quantity.multiply(BigDecimal.valueOf(1L << shift)).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, "storage size within long range and of whole bytes"), e);
+        }
+    }
+
+    /**
+     * 获取全局默认的值转换器：存在通过 SPI 注册的 {@link HyggeConfigurationValueParser} 实现时使用该实现，否则使用 {@link DefaultHyggeConfigurationValueParser#INSTANCE}
+     */
+    public static HyggeConfigurationValueParser getGlobalDefault() {
+        HyggeConfigurationValueParser result = globalDefault;
+        if (result == null) {
+            synchronized (DefaultHyggeConfigurationValueParser.class) {
+                result = globalDefault;
+                if (result == null) {
+                    result = loadGlobalDefault();
+                    globalDefault = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static HyggeConfigurationValueParser loadGlobalDefault() {
+        // 使用当前类的 ClassLoader 尝试修复复杂环境 SPI 无法正常工作的问题
+        ServiceLoader<HyggeConfigurationValueParser> serviceLoader = ServiceLoader.load(HyggeConfigurationValueParser.class, DefaultHyggeConfigurationValueParser.class.getClassLoader());
+        List<HyggeConfigurationValueParser> list = new ArrayList<>();
+        serviceLoader.forEach(list::add);
+
+        if (list.size() > 1) {
+            StringBuilder info = new StringBuilder();
+            for (HyggeConfigurationValueParser parser : list) {
+                if (info.length() > 0) {
+                    info.append(",");
+                }
+                info.append(parser.getClass().getName());
+            }
+            throw new UtilRuntimeException(String.format("There should only be one implementation of HyggeConfigurationValueParser(%s), so please remove the redundant implementations.", info));
+        }
+        return list.isEmpty() ? INSTANCE : list.get(0);
+    }
+
+    /**
+     * 将数值类型的配置值精确转换为 long，带小数或超出 long 范围时抛出异常，而不是静默截断或回绕
+     */
+    private long exactLongValue(String key, Number value, String expectedType) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.longValue();
+        }
+        try {
+            BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+            return decimal.longValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new UtilRuntimeException(unexpectedValue(key, value, expectedType), e);
+        }
+    }
+
+    protected boolean isEmpty(Object value) {
+        return value == null || (value instanceof CharSequence && value.toString().trim().isEmpty());
+    }
+
+    protected String unexpectedValue(String key, Object value, String expectedType) {
+        return "Unexpected configuration value of [" + key + "]:" + value + ",it should be " + expectedType + ".";
+    }
+}
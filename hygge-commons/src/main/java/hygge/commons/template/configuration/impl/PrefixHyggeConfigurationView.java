@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.configuration.impl;
+
+import hygge.commons.template.configuration.definition.HyggeConfiguration;
+import hygge.commons.template.configuration.definition.HyggeConfigurationValueParser;
+import hygge.commons.template.configuration.inner.HyggeConfigurationItem;
+import hygge.commons.template.configuration.inner.HyggeConfigurationSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * {@link DefaultHyggeConfiguration} 中某个前缀命名空间的子配置视图
+ * <p>
+ * 入参、{@link PrefixHyggeConfigurationView#getKeys()} 以及返回的配置项的 key 均为去除前缀后的相对 key，
+ * 因此 view.getItem(item.getKey()) 总能命中，视图也可以像普通配置一样被合并到其他配置中。
+ * <p>
+ * 视图本身不持有数据，总是读取父配置的最新快照；相对 key 的配置项按父配置快照整体生成并缓存(保留类型化视图缓存)，
+ * 父配置发布新快照后在下一次读取时重建。对返回配置项的修改不会写回父配置
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class PrefixHyggeConfigurationView implements HyggeConfiguration {
+    private final DefaultHyggeConfiguration parent;
+    private final String prefix;
+    /**
+     * 基于父配置某个快照生成的相对 key 配置项
+     */
+    private volatile RelativeItems relativeItems;
+
+    public PrefixHyggeConfigurationView(DefaultHyggeConfiguration parent, String prefix) {
+        this.parent = parent;
+        this.prefix = prefix == null ? "" : prefix;
+    }
+
+    @Override
+    public int getDefaultOrder() {
+        return parent.getDefaultOrder();
+    }
+
+    @Override
+    public HyggeConfigurationItem<?> putItem(String key, Object value) {
+        return toRelative(parent.putItem(prefix + key, value));
+    }
+
+    @Override
+    public HyggeConfigurationItem<?> putItem(String key, Object value, int order) {
+        return toRelative(parent.putItem(prefix + key, value, order));
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return parent.containsKey(prefix + key);
+    }
+
+    @Override
+    public HyggeConfigurationItem<?> getItem(String key) {
+        return relativeItems().items.get(key);
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        return new LinkedHashSet<>(relativeItems().items.keySet());
+    }
+
+    @Override
+    public Collection<HyggeConfigurationItem<?>> getItems() {
+        return Collections.unmodifiableCollection(relativeItems().items.values());
+    }
+
+    @Override
+    public List<HyggeConfigurationItem<?>> getItemsByPrefix(String subPrefix) {
+        RelativeItems current = relativeItems();
+        List<String> fullKeys = current.source.getKeysByPrefix(prefix + subPrefix);
+        if (fullKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<HyggeConfigurationItem<?>> result = new ArrayList<>(fullKeys.size());
+        for (String fullKey : fullKeys) {
+            result.add(current.items.get(fullKey.substring(prefix.length())));
+        }
+        return result;
+    }
+
+    /**
+     * 合并到本视图的命名空间下，等价于 {@link DefaultHyggeConfiguration#mergeConfiguration(String, HyggeConfiguration)}
+     *
+     * @return 所有发生冲突而被覆盖的旧配置项，key 为相对 key
+     */
+    @Override
+    public List<HyggeConfigurationItem<?>> mergeConfiguration(HyggeConfiguration mergeTarget) {
+        List<HyggeConfigurationItem<?>> replaced = parent.mergeConfiguration(prefix, mergeTarget);
+        List<HyggeConfigurationItem<?>> result = new ArrayList<>(replaced.size());
+        for (HyggeConfigurationItem<?> item : replaced) {
+            result.add(toRelative(item));
+        }
+        return result;
+    }
+
+    /**
+     * 转换成以相对 key 为键的 Properties
+     */
+    @Override
+    public Properties toProperties() {
+        Properties result = new Properties();
+        for (HyggeConfigurationItem<?> item : getItems()) {
+            if (item.getValue() != null) {
+                result.setProperty(item.getKey(), item.getValue().toString());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public HyggeConfigurationValueParser getValueParser() {
+        return parent.getValueParser();
+    }
+
+    /**
+     * 获取本视图下更深一层命名空间的子配置视图
+     */
+    public HyggeConfiguration subConfiguration(String subPrefix) {
+        return parent.subConfiguration(prefix + subPrefix);
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    private RelativeItems relativeItems() {
+        HyggeConfigurationSnapshot current = parent.getSnapshot();
+        RelativeItems cached = relativeItems;
+        if (cached != null && cached.source == current) {
+            return cached;
+        }
+        List<HyggeConfigurationItem<?>> fullItems = current.getItemsByPrefix(prefix);
+        Map<String, HyggeConfigurationItem<?>> items = new LinkedHashMap<>(Math.max((int) (fullItems.size() / 0.75F) + 1, 16));
+        for (HyggeConfigurationItem<?> item : fullItems) {
+            HyggeConfigurationItem<?> relativeItem = toRelative(item);
+            items.put(relativeItem.getKey(), relativeItem);
+        }
+        cached = new RelativeItems(current, items);
+        this.relativeItems = cached;
+        return cached;
+    }
+
+    private <T> HyggeConfigurationItem<T> toRelative(HyggeConfigurationItem<T> item) {
+        if (item == null) {
+            return null;
+        }
+        return new HyggeConfigurationItem<>(item.getKey().substring(prefix.length()), item.getValueType(), item.getValue(), item.getOrder());
+    }
+
+    private static final class RelativeItems {
+        private final HyggeConfigurationSnapshot source;
+        private final Map<String, HyggeConfigurationItem<?>> items;
+
+        private RelativeItems(HyggeConfigurationSnapshot source, Map<String, HyggeConfigurationItem<?>> items) {
+            this.source = source;
+            this.items = items;
+        }
+    }
+}
@@ -18,15 +18,27 @@ package hygge.commons.template.configuration.inner;
 
 
 import hygge.commons.constant.enums.ColumnTypeEnum;
+import hygge.commons.template.configuration.definition.HyggeConfigurationValueParser;
+
+import java.math.BigDecimal;
+import java.time.Duration;
 
 /**
  * Hygge 配置项键值实体
+ * <p>
+ * 携带按需计算并缓存的类型化视图(int/long/boolean/BigDecimal/Duration/存储大小)，同一个值只会被转换一次；
+ * 修改键或值时缓存整体失效。{@link hygge.commons.template.configuration.impl.DefaultHyggeConfiguration} 每次写入都会创建新的配置项，
+ * 因此覆盖或合并后的新值总是从空缓存开始
  *
  * @author Xavier
  * @date 2022/6/25
  * @since 1.0
  */
 public class HyggeConfigurationItem<T> {
+    /**
+     * 尚未计算的视图占位符(null 是合法的计算结果)
+     */
+    private static final Object UNRESOLVED = new Object();
     /**
      * 键
      */
@@ -43,6 +55,10 @@ public class HyggeConfigurationItem<T> {
      * 优先级,越小优先级越高
      */
     private int order;
+    /**
+     * 类型化视图缓存，值发生变化时置空
+     */
+    private transient volatile TypedValueView typedValueView;
 
     public HyggeConfigurationItem() {
     }
@@ -60,6 +76,7 @@ public class HyggeConfigurationItem<T> {
 
     public void setKey(String key) {
         this.key = key;
+        this.typedValueView = null;
     }
 
     public ColumnTypeEnum getValueType() {
@@ -68,6 +85,7 @@ public class HyggeConfigurationItem<T> {
 
     public void setValueType(ColumnTypeEnum valueType) {
         this.valueType = valueType;
+        this.typedValueView = null;
     }
 
     public T getValue() {
@@ -76,6 +94,7 @@ public class HyggeConfigurationItem<T> {
 
     public void setValue(T value) {
         this.value = value;
+        this.typedValueView = null;
     }
 
     public int getOrder() {
@@ -86,6 +105,114 @@ public class HyggeConfigurationItem<T> {
         this.order = order;
     }
 
+    /**
+     * 以 Integer 形式读取值，结果会被缓存
+     *
+     * @param parser 值转换器
+     * @return 值为空时返回 null
+     */
+    public Integer getIntegerValue(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView(parser);
+        Object result = view.integerValue;
+        if (result == UNRESOLVED) {
+            result = parser.parseInteger(key, value);
+            view.integerValue = result;
+        }
+        return (Integer) result;
+    }
+
+    /**
+     * 以 Long 形式读取值，结果会被缓存
+     *
+     * @param parser 值转换器
+     * @return 值为空时返回 null
+     */
+    public Long getLongValue(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView(parser);
+        Object result = view.longValue;
+        if (result == UNRESOLVED) {
+            result = parser.parseLong(key, value);
+            view.longValue = result;
+        }
+        return (Long) result;
+    }
+
+    /**
+     * 以 Boolean 形式读取值，结果会被缓存
+     *
+     * @param parser 值转换器
+     * @return 值为空时返回 null
+     */
+    public Boolean getBooleanValue(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView(parser);
+        Object result = view.booleanValue;
+        if (result == UNRESOLVED) {
+            result = parser.parseBoolean(key, value);
+            view.booleanValue = result;
+        }
+        return (Boolean) result;
+    }
+
+    /**
+     * 以 BigDecimal 形式读取值，结果会被缓存
+     *
+     * @param parser 值转换器
+     * @return 值为空时返回 null
+     */
+    public BigDecimal getBigDecimalValue(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView(parser);
+        Object result = view.bigDecimalValue;
+        if (result == UNRESOLVED) {
+            result = parser.parseBigDecimal(key, value);
+            view.bigDecimalValue = result;
+        }
+        return (BigDecimal) result;
+    }
+
+    /**
+     * 以时间段形式读取值，结果会被缓存
+     *
+     * @param parser 值转换器
+     * @return 值为空时返回 null
+     */
+    public Duration getDurationValue(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView(parser);
+        Object result = view.durationValue;
+        if (result == UNRESOLVED) {
+            result = parser.parseDuration(key, value);
+            view.durationValue = result;
+        }
+        return (Duration) result;
+    }
+
+    /**
+     * 以字节为单位的存储大小形式读取值，结果会被缓存
+     *
+     * @param parser 值转换器
+     * @return 值为空时返回 null
+     */
+    public Long getStorageBytesValue(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView(parser);
+        Object result = view.storageBytesValue;
+        if (result == UNRESOLVED) {
+            result = parser.parseStorageBytes(key, value);
+            view.storageBytesValue = result;
+        }
+        return (Long) result;
+    }
+
+    /**
+     * 获取与 parser 对应的视图缓存，转换器变化时重建
+     */
+    private TypedValueView typedValueView(HyggeConfigurationValueParser parser) {
+        TypedValueView view = typedValueView;
+        if (view == null || view.parser != parser) {
+            view = new TypedValueView(parser);
+            typedValueView = view;
+        }
+        return view;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -101,4 +228,21 @@ public class HyggeConfigurationItem<T> {
     public int hashCode() {
         return value.hashCode();
     }
+
+    /**
+     * 类型化视图缓存，各视图并发计算时至多重复计算一次，结果相同
+     */
+    private static final class TypedValueView {
+        private final HyggeConfigurationValueParser parser;
+        private volatile Object integerValue = UNRESOLVED;
+        private volatile Object longValue = UNRESOLVED;
+        private volatile Object booleanValue = UNRESOLVED;
+        private volatile Object bigDecimalValue = UNRESOLVED;
+        private volatile Object durationValue = UNRESOLVED;
+        private volatile Object storageBytesValue = UNRESOLVED;
+
+        private TypedValueView(HyggeConfigurationValueParser parser) {
+            this.parser = parser;
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.configuration.inner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hygge 配置项的不可变快照
+ * <p>
+ * 创建后内容不再变化，可在任意线程间无锁共享；写入方总是基于旧快照构造新快照，再整体替换引用
+ * <p>
+ * 首次按前缀查询时构建一份有序 key 数组作为前缀索引，之后的前缀查询只需一次二分查找定位起点，
+ * 复杂度为 O(log n * 前缀长度 + 结果数量)
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public final class HyggeConfigurationSnapshot {
+    /**
+     * 不含任何配置项的初始快照
+     */
+    public static final HyggeConfigurationSnapshot EMPTY = new HyggeConfigurationSnapshot(Collections.emptyMap(), 0L);
+
+    private final Map<String, HyggeConfigurationItem<?>> container;
+    /**
+     * 快照版本号，每发布一次新快照递增 1
+     */
+    private final long version;
+    /**
+     * 有序 key 数组(前缀索引)，首次前缀查询时构建，并发构建时结果相同
+     */
+    private volatile String[] sortedKeys;
+
+    private HyggeConfigurationSnapshot(Map<String, HyggeConfigurationItem<?>> container, long version) {
+        this.container = container;
+        this.version = version;
+    }
+
+    /**
+     * 以指定内容创建快照，入参会被复制，调用方后续对其修改不影响快照
+     */
+    public static HyggeConfigurationSnapshot of(Map<String, HyggeConfigurationItem<?>> items, long version) {
+        if (items == null || items.isEmpty()) {
+            return new HyggeConfigurationSnapshot(Collections.emptyMap(), version);
+        }
+        return new HyggeConfigurationSnapshot(Collections.unmodifiableMap(new HashMap<>(items)), version);
+    }
+
+    /**
+     * 以当前快照内容为基础，创建一份可修改的副本用于构造下一个快照
+     *
+     * @param expectedSize 预期新增的配置项数量
+     */
+    public Map<String, HyggeConfigurationItem<?>> mutableCopy(int expectedSize) {
+        int size = container.size() + Math.max(expectedSize, 0);
+        HashMap<String, HyggeConfigurationItem<?>> result = new HashMap<>(Math.max((int) (size / 0.75F) + 1, 16));
+        result.putAll(container);
+        return result;
+    }
+
+    /**
+     * 用已构造完毕的配置项创建下一个版本的快照
+     * <p>
+     * 入参不再复制，调用方交出所有权后不应再修改它
+     */
+    public HyggeConfigurationSnapshot next(Map<String, HyggeConfigurationItem<?>> ownedItems) {
+        return new HyggeConfigurationSnapshot(Collections.unmodifiableMap(ownedItems), version + 1);
+    }
+
+    public boolean containsKey(String key) {
+        return container.containsKey(key);
+    }
+
+    public HyggeConfigurationItem<?> getItem(String key) {
+        return container.get(key);
+    }
+
+    public Set<String> getKeys() {
+        return container.keySet();
+    }
+
+    public Collection<HyggeConfigurationItem<?>> getItems() {
+        return container.values();
+    }
+
+    /**
+     * 按字典序返回以 prefix 开头的全部 key
+     *
+     * @param prefix 前缀(按字面匹配，如需匹配命名空间请以 "." 结尾)
+     */
+    public List<String> getKeysByPrefix(String prefix) {
+        String[] keys = sortedKeys();
+        int from = lowerBound(keys, prefix);
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(prefix)) {
+            to++;
+        }
+        return from == to ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(keys).subList(from, to));
+    }
+
+    /**
+     * 按 key 字典序返回 key 以 prefix 开头的全部配置项
+     *
+     * @param prefix 前缀(按字面匹配，如需匹配命名空间请以 "." 结尾)
+     */
+    public List<HyggeConfigurationItem<?>> getItemsByPrefix(String prefix) {
+        List<String> keys = getKeysByPrefix(prefix);
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<HyggeConfigurationItem<?>> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            result.add(container.get(key));
+        }
+        return result;
+    }
+
+    private String[] sortedKeys() {
+        String[] result = sortedKeys;
+        if (result == null) {
+            result = container.keySet().toArray(new String[0]);
+            Arrays.sort(result);
+            sortedKeys = result;
+        }
+        return result;
+    }
+
+    /**
+     * 第一个不小于 target 的下标，以 target 为前缀的 key 总是从这里开始连续排列
+     */
+    private static int lowerBound(String[] keys, String target) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(target) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return container.size();
+    }
+
+    public Map<String, HyggeConfigurationItem<?>> getContainer() {
+        return container;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
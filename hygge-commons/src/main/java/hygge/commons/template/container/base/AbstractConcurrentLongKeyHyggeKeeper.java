@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.constant.enums.EvictionPolicyEnum;
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.LongKeyHyggeKeeper;
+import hygge.commons.template.container.inner.LongKeyLinkedOpenHashMap;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 以 long 为 key 的线程安全 HyggeKeeper
+ * <p>
+ * 按 key 的哈希值高位划分为若干个分段，每个分段是一个由独立锁保护的 {@link LongKeyLinkedOpenHashMap}(分段内部使用哈希值低位寻址)，
+ * 不同分段之间的读写互不阻塞。开启淘汰策略时容量按分段平均分配，超出容量时淘汰所在分段中的最早(FIFO)或最久未使用(LRU)元素。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractConcurrentLongKeyHyggeKeeper<V> implements LongKeyHyggeKeeper<V> {
+    /**
+     * 默认分段数量上限
+     */
+    protected static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    protected Segment<V>[] segments;
+    protected int segmentShift;
+
+    protected AbstractConcurrentLongKeyHyggeKeeper() {
+        this(16, 0.75F, null, EvictionPolicyEnum.NONE);
+    }
+
+    protected AbstractConcurrentLongKeyHyggeKeeper(int initialCapacity, float loadFactor, Integer maxSize, EvictionPolicyEnum evictionPolicy) {
+        this(initialCapacity, loadFactor, maxSize, evictionPolicy, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param maxSize          容量上限，evictionPolicy 为 {@link EvictionPolicyEnum#NONE} 时忽略
+     * @param evictionPolicy   淘汰策略
+     * @param concurrencyLevel 分段数量上限，实际分段数量为不超过 concurrencyLevel(有容量上限时还不超过 maxSize) 的最大 2 的幂
+     */
+    @SuppressWarnings("unchecked")
+    protected AbstractConcurrentLongKeyHyggeKeeper(int initialCapacity, float loadFactor, Integer maxSize, EvictionPolicyEnum evictionPolicy, int concurrencyLevel) {
+        boolean bounded = evictionPolicy != null && evictionPolicy != EvictionPolicyEnum.NONE;
+        if (bounded && (maxSize == null || maxSize < 1)) {
+            throw new UtilRuntimeException("Unexpected maxSize(" + maxSize + "),it should be greater than 0.");
+        }
+        int segmentLimit = bounded ? Math.min(concurrencyLevel, maxSize) : concurrencyLevel;
+        int segmentCount = Integer.highestOneBit(Math.max(1, segmentLimit));
+        // 分段使用哈希值的高位，分段内部使用低位，两者互不相关
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+        this.segments = (Segment<V>[]) new Segment<?>[segmentCount];
+
+        int segmentInitialCapacity = Math.max(1, initialCapacity / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            Integer segmentMaxSize = bounded ? maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0) : null;
+            segments[i] = new Segment<>(segmentInitialCapacity, loadFactor, segmentMaxSize, evictionPolicy);
+        }
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.containsKey(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V saveValue(long key, V value) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.put(key, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V getValue(long key) {
+        return getValueOfNullable(key, null);
+    }
+
+    @Override
+    public V getValueOfNullable(long key, V defaultValue) {
+        Segment<V> segment = segmentFor(key);
+        // LRU 模式下读操作同样会调整链表，因此统一使用独占分段锁
+        segment.lock();
+        try {
+            return segment.map.getOrDefault(key, defaultValue);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V removeValue(long key) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.remove(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        long result = 0;
+        for (Segment<V> segment : segments) {
+            segment.lock();
+            try {
+                result += segment.map.size();
+            } finally {
+                segment.unlock();
+            }
+        }
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+
+    protected Segment<V> segmentFor(long key) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        return segments[(int) (LongKeyLinkedOpenHashMap.mix(key) >>> segmentShift)];
+    }
+
+    /**
+     * 由独立锁保护的分段
+     */
+    protected static final class Segment<V> extends ReentrantLock {
+        private final LongKeyLinkedOpenHashMap<V> map;
+
+        private Segment(int initialCapacity, float loadFactor, Integer maxSize, EvictionPolicyEnum evictionPolicy) {
+            this.map = new LongKeyLinkedOpenHashMap<>(initialCapacity, loadFactor, maxSize, evictionPolicy);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.template.container.definition.HyggeContext;
+import hygge.commons.template.container.inner.EnumSlotTable;
+
+/**
+ * 以单一枚举类型为 key 的 HyggeContext
+ * <p>
+ * 容器为按枚举序号直接寻址的 {@link EnumSlotTable}，首次写入时才分配空间，适合每个请求/事件都会创建一次的短生命周期上下文
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+@SuppressWarnings("unchecked")
+public abstract class AbstractEnumHyggeContext<K extends Enum<K>> implements HyggeContext<K> {
+    protected final EnumSlotTable container = new EnumSlotTable();
+
+    @Override
+    public boolean containsKey(K key) {
+        return container.containsKey(key);
+    }
+
+    @Override
+    public <T> T saveObject(K key, Object object) {
+        return (T) container.put(key, object);
+    }
+
+    @Override
+    public <T> T getObject(K key) {
+        return (T) container.get(key);
+    }
+
+    @Override
+    public <T> T getObjectOfNullable(K key, Object defaultObject) {
+        return (T) container.getOrDefault(key, defaultObject);
+    }
+
+    /**
+     * 根据 key 从容器中移除对象
+     *
+     * @return key 对应的旧对象
+     */
+    public <T> T removeObject(K key) {
+        return (T) container.remove(key);
+    }
+}
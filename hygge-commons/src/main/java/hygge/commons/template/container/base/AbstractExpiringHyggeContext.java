@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.constant.enums.ExpiryPolicyEnum;
+import hygge.commons.template.container.inner.ExpiringHashMap;
+
+/**
+ * 元素会过期的 HyggeContext
+ * <p>
+ * 容器本身即线程安全的 {@link ExpiringHashMap}，由分层时间轮驱动过期清理，支持写入后过期与访问后过期两种策略
+ * <p>
+ * 快照只记录未过期元素的 key 与 value，不记录到期时间：从快照还原的元素按 {@link AbstractExpiringHyggeContext#defaultTtlMillis} 重新计时，
+ * 通过 {@link AbstractExpiringHyggeContext#saveObject(Object, Object, long)} 指定的有效时长不会被保留
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractExpiringHyggeContext<K> extends AbstractHyggeContext<K> {
+    /**
+     * 默认有效时长(毫秒)
+     */
+    protected Long defaultTtlMillis;
+    protected ExpiryPolicyEnum expiryPolicy;
+
+    protected AbstractExpiringHyggeContext(long defaultTtlMillis, ExpiryPolicyEnum expiryPolicy) {
+        this(16, 0.75F, defaultTtlMillis, expiryPolicy);
+    }
+
+    protected AbstractExpiringHyggeContext(int initialCapacity, float loadFactor, long defaultTtlMillis, ExpiryPolicyEnum expiryPolicy) {
+        super(initialCapacity, loadFactor);
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.expiryPolicy = expiryPolicy;
+        initContainer(initialCapacity, loadFactor);
+    }
+
+    @Override
+    protected void initContainer(int initialCapacity, float loadFactor) {
+        // 父类构造方法执行时 defaultTtlMillis 尚未赋值，由当前类构造方法在赋值后再完成初始化
+        if (defaultTtlMillis == null) {
+            return;
+        }
+        this.container = new ExpiringHashMap<>(initialCapacity, loadFactor, defaultTtlMillis, expiryPolicy);
+    }
+
+    /**
+     * 以指定的有效时长保存对象
+     *
+     * @param ttlMillis 有效时长(毫秒)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T saveObject(K key, Object object, long ttlMillis) {
+        discardSnapshot(key);
+        return (T) ((ExpiringHashMap<K, Object>) container).put(key, object, ttlMillis);
+    }
+
+    /**
+     * 主动移除所有到期元素
+     */
+    public void cleanUp() {
+        ((ExpiringHashMap<K, Object>) container).cleanUp();
+    }
+}
@@ -16,8 +16,12 @@
 
 package hygge.commons.template.container.base;
 
+import hygge.commons.template.container.definition.Weigher;
 import hygge.commons.template.container.inner.FIFOLinkedHashMap;
+import hygge.commons.template.container.inner.WeightedLinkedHashMap;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -27,23 +31,51 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * @date 2023/3/14
  * @since 1.0
  */
+@SuppressWarnings("unchecked")
 public abstract class AbstractFIFOHyggeContext<K> extends AbstractHyggeContext<K> {
     protected ReentrantReadWriteLock readWriteLock;
     protected Integer maxSize;
+    /**
+     * 总权重上限，与 maxSize 二选一
+     */
+    protected Long maxWeight;
+    protected Weigher<? super K, ? super Object> weigher;
 
     protected AbstractFIFOHyggeContext(Integer maxSize) {
-        this.readWriteLock = new ReentrantReadWriteLock();
-        this.maxSize = maxSize;
+        this(16, 0.75F, maxSize);
     }
 
     protected AbstractFIFOHyggeContext(int initialCapacity, float loadFactor, Integer maxSize) {
         super(initialCapacity, loadFactor);
         this.readWriteLock = new ReentrantReadWriteLock();
         this.maxSize = maxSize;
+        initContainer(initialCapacity, loadFactor);
+    }
+
+    /**
+     * 按总权重而非元素数量限制容量
+     *
+     * @param maxWeight 总权重上限
+     * @param weigher   元素权重计算器，内置实现见 {@link hygge.commons.template.container.inner.DefaultWeigher}
+     */
+    protected AbstractFIFOHyggeContext(int initialCapacity, float loadFactor, long maxWeight, Weigher<? super K, ? super Object> weigher) {
+        super(initialCapacity, loadFactor);
+        this.readWriteLock = new ReentrantReadWriteLock();
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        initContainer(initialCapacity, loadFactor);
     }
 
     @Override
     protected void initContainer(int initialCapacity, float loadFactor) {
+        // 父类构造方法执行时 maxSize/maxWeight 尚未赋值，由当前类构造方法在赋值后再完成初始化
+        if (maxWeight != null) {
+            this.container = new WeightedLinkedHashMap<>(initialCapacity, loadFactor, false, maxWeight, weigher);
+            return;
+        }
+        if (maxSize == null) {
+            return;
+        }
         this.container = new FIFOLinkedHashMap<>(initialCapacity, loadFactor, maxSize);
     }
 
@@ -69,21 +101,44 @@ public abstract class AbstractFIFOHyggeContext<K> extends AbstractHyggeContext<K
 
     @Override
     public <T> T getObject(K key) {
+        Object result;
         readWriteLock.readLock().lock();
         try {
-            return super.getObject(key);
+            result = container.get(key);
         } finally {
             readWriteLock.readLock().unlock();
         }
+        // 还原快照需要写锁，不能在持有读锁时进行
+        if (result == null && snapshot != null) {
+            result = restoreFromSnapshot(key);
+        }
+        recordAccess(result != null);
+        return (T) result;
     }
 
     @Override
     public <T> T getObjectOfNullable(K key, Object defaultObject) {
+        Object result = getObject(key);
+        return (T) (result == null ? defaultObject : result);
+    }
+
+    @Override
+    protected List<Map.Entry<K, Object>> entriesForSnapshot() {
         readWriteLock.readLock().lock();
         try {
-            return super.getObjectOfNullable(key, defaultObject);
+            return super.entriesForSnapshot();
         } finally {
             readWriteLock.readLock().unlock();
         }
     }
+
+    @Override
+    protected Object restoreFromSnapshot(K key) {
+        readWriteLock.writeLock().lock();
+        try {
+            return super.restoreFromSnapshot(key);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
 }
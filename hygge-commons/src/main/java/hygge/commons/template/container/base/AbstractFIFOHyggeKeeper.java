@@ -16,8 +16,12 @@
 
 package hygge.commons.template.container.base;
 
+import hygge.commons.template.container.definition.Weigher;
 import hygge.commons.template.container.inner.FIFOLinkedHashMap;
+import hygge.commons.template.container.inner.WeightedLinkedHashMap;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -30,20 +34,47 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public abstract class AbstractFIFOHyggeKeeper<K, V> extends AbstractHyggeKeeper<K, V> {
     protected ReentrantReadWriteLock readWriteLock;
     protected Integer maxSize;
+    /**
+     * 总权重上限，与 maxSize 二选一
+     */
+    protected Long maxWeight;
+    protected Weigher<? super K, ? super V> weigher;
 
     protected AbstractFIFOHyggeKeeper(Integer maxSize) {
-        this.readWriteLock = new ReentrantReadWriteLock();
-        this.maxSize = maxSize;
+        this(16, 0.75F, maxSize);
     }
 
     protected AbstractFIFOHyggeKeeper(int initialCapacity, float loadFactor, Integer maxSize) {
         super(initialCapacity, loadFactor);
         this.readWriteLock = new ReentrantReadWriteLock();
         this.maxSize = maxSize;
+        initContainer(initialCapacity, loadFactor);
+    }
+
+    /**
+     * 按总权重而非元素数量限制容量
+     *
+     * @param maxWeight 总权重上限
+     * @param weigher   元素权重计算器，内置实现见 {@link hygge.commons.template.container.inner.DefaultWeigher}
+     */
+    protected AbstractFIFOHyggeKeeper(int initialCapacity, float loadFactor, long maxWeight, Weigher<? super K, ? super V> weigher) {
+        super(initialCapacity, loadFactor);
+        this.readWriteLock = new ReentrantReadWriteLock();
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        initContainer(initialCapacity, loadFactor);
     }
 
     @Override
     protected void initContainer(int initialCapacity, float loadFactor) {
+        // 父类构造方法执行时 maxSize/maxWeight 尚未赋值，由当前类构造方法在赋值后再完成初始化
+        if (maxWeight != null) {
+            this.container = new WeightedLinkedHashMap<>(initialCapacity, loadFactor, false, maxWeight, weigher);
+            return;
+        }
+        if (maxSize == null) {
+            return;
+        }
         this.container = new FIFOLinkedHashMap<>(initialCapacity, loadFactor, maxSize);
     }
 
@@ -69,21 +100,44 @@ public abstract class AbstractFIFOHyggeKeeper<K, V> extends AbstractHyggeKeeper<
 
     @Override
     public V getValue(K key) {
+        V result;
         readWriteLock.readLock().lock();
         try {
-            return super.getValue(key);
+            result = container.get(key);
         } finally {
             readWriteLock.readLock().unlock();
         }
+        // 还原快照需要写锁，不能在持有读锁时进行
+        if (result == null && snapshot != null) {
+            result = restoreFromSnapshot(key);
+        }
+        recordAccess(result != null);
+        return result;
     }
 
     @Override
     public V getValueOfNullable(K key, V defaultValue) {
+        V result = getValue(key);
+        return result == null ? defaultValue : result;
+    }
+
+    @Override
+    protected List<Map.Entry<K, V>> entriesForSnapshot() {
         readWriteLock.readLock().lock();
         try {
-            return super.getValueOfNullable(key, defaultValue);
+            return super.entriesForSnapshot();
         } finally {
             readWriteLock.readLock().unlock();
         }
     }
+
+    @Override
+    protected V restoreFromSnapshot(K key) {
+        readWriteLock.writeLock().lock();
+        try {
+            return super.restoreFromSnapshot(key);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
 }
@@ -17,7 +17,18 @@
 package hygge.commons.template.container.base;
 
 import hygge.commons.template.container.definition.HyggeKeeper;
+import hygge.commons.template.container.definition.SnapshotCodec;
+import hygge.commons.template.container.inner.EvictionObservable;
+import hygge.commons.template.container.inner.MappedSnapshot;
+import hygge.commons.template.container.stats.HyggeContainerStats;
+import hygge.commons.template.container.stats.HyggeContainerStatsRecorder;
+import hygge.commons.template.container.stats.HyggeContainerStatsRegistry;
+import hygge.commons.template.container.stats.HyggeContainerStatsSupport;
 
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -28,8 +39,20 @@ import java.util.concurrent.ConcurrentHashMap;
  * @date 2022/6/25
  * @since 1.0
  */
-public abstract class AbstractHyggeKeeper<K, V> implements HyggeKeeper<K, V> {
+public abstract class AbstractHyggeKeeper<K, V> implements HyggeKeeper<K, V>, HyggeContainerStatsSupport {
     protected Map<K, V> container;
+    /**
+     * 统计信息记录器，默认不开启统计，为 null
+     */
+    protected volatile HyggeContainerStatsRecorder statsRecorder;
+    /**
+     * 尚未还原完毕的快照，全部还原后置为 null
+     */
+    protected volatile MappedSnapshot<K, V> snapshot;
+    /**
+     * 已注册 {@link AbstractHyggeKeeper#onEviction(Object, Object)} 作为淘汰监听的容器
+     */
+    private volatile Map<K, V> observedContainer;
 
     protected AbstractHyggeKeeper() {
         initContainer(16, 0.75F);
@@ -45,21 +68,177 @@ public abstract class AbstractHyggeKeeper<K, V> implements HyggeKeeper<K, V> {
 
     @Override
     public boolean containsKey(K key) {
-        return container.containsKey(key);
+        if (container.containsKey(key)) {
+            return true;
+        }
+        MappedSnapshot<K, V> currentSnapshot = snapshot;
+        return currentSnapshot != null && currentSnapshot.containsKey(key);
     }
 
     @Override
     public V saveValue(K key, V value) {
+        discardSnapshot(key);
         return container.put(key, value);
     }
 
     @Override
     public V getValue(K key) {
-        return container.get(key);
+        V result = container.get(key);
+        if (result == null && snapshot != null) {
+            result = restoreFromSnapshot(key);
+        }
+        recordAccess(result != null);
+        return result;
     }
 
     @Override
     public V getValueOfNullable(K key, V defaultValue) {
-        return container.getOrDefault(key, defaultValue);
+        if (statsRecorder == null && snapshot == null) {
+            return container.getOrDefault(key, defaultValue);
+        }
+        V result = getValue(key);
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 开启统计，重复调用不会重置已有的统计信息
+     */
+    public synchronized void enableStats() {
+        if (statsRecorder != null) {
+            return;
+        }
+        this.statsRecorder = new HyggeContainerStatsRecorder();
+        observeEviction();
+    }
+
+    /**
+     * 开启统计，并以指定名称注册到 {@link HyggeContainerStatsRegistry}
+     */
+    public void enableStats(String name) {
+        enableStats();
+        HyggeContainerStatsRegistry.register(name, this);
+    }
+
+    @Override
+    public HyggeContainerStats getStats() {
+        HyggeContainerStatsRecorder recorder = statsRecorder;
+        return recorder == null ? null : recorder.snapshot(container.size());
+    }
+
+    /**
+     * 容器淘汰元素时的回调，默认记录淘汰次数，子类重写时需要调用父类实现
+     */
+    protected void onEviction(K key, V value) {
+        HyggeContainerStatsRecorder recorder = statsRecorder;
+        if (recorder != null) {
+            recorder.recordEviction();
+        }
+    }
+
+    /**
+     * 如果容器实现了 {@link EvictionObservable}，将 {@link AbstractHyggeKeeper#onEviction(Object, Object)} 注册为其淘汰监听。
+     * <p>
+     * 子类可能在父类构造方法之后才替换容器，因此需要在使用淘汰通知前调用，同一容器重复调用只会注册一次
+     */
+    @SuppressWarnings("unchecked")
+    protected void observeEviction() {
+        Map<K, V> current = container;
+        if (current == observedContainer) {
+            return;
+        }
+        synchronized (this) {
+            if (current == observedContainer) {
+                return;
+            }
+            if (current instanceof EvictionObservable) {
+                ((EvictionObservable<K, V>) current).setEvictionListener(this::onEviction);
+            }
+            this.observedContainer = current;
+        }
+    }
+
+    protected void recordAccess(boolean hit) {
+        HyggeContainerStatsRecorder recorder = statsRecorder;
+        if (recorder == null) {
+            return;
+        }
+        if (hit) {
+            recorder.recordHit();
+        } else {
+            recorder.recordMiss();
+        }
+    }
+
+    /**
+     * 将容器中的元素(包括快照中尚未还原的元素)写入内存映射快照文件
+     *
+     * @param valueCodec 值编解码器，JSON 格式可使用 hygge-util-core 中的 JsonHelperSnapshotCodec，
+     *                   二进制格式可使用 {@link hygge.commons.template.container.inner.JavaSerializationSnapshotCodec}
+     * @return 写入的元素数量
+     */
+    public int snapshotTo(Path file, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) {
+        List<Map.Entry<K, V>> entries = entriesForSnapshot();
+        MappedSnapshot<K, V> currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            currentSnapshot.forEach((key, value) -> {
+                if (!container.containsKey(key)) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+                }
+            });
+        }
+        return MappedSnapshot.write(file, entries, keyCodec, valueCodec);
+    }
+
+    /**
+     * 映射快照文件，此时只解码 key，value 在首次访问时才解码并存入容器
+     *
+     * @return 快照中的元素数量
+     */
+    public int restoreFrom(Path file, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) {
+        MappedSnapshot<K, V> restored = MappedSnapshot.open(file, keyCodec, valueCodec);
+        this.snapshot = restored.size() == 0 ? null : restored;
+        return restored.size();
+    }
+
+    /**
+     * 获取用于写入快照的元素拷贝，子类容器非线程安全时需要加锁
+     */
+    protected List<Map.Entry<K, V>> entriesForSnapshot() {
+        List<Map.Entry<K, V>> result = new ArrayList<>(container.size());
+        container.forEach((key, value) -> result.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+        return result;
+    }
+
+    /**
+     * 从快照中还原元素
+     * <p>
+     * 依赖 container.putIfAbsent 的原子性，保证与之并发的写入不会被还原出的旧值覆盖：
+     * {@link java.util.concurrent.ConcurrentHashMap} 以及实现了 {@link java.util.concurrent.ConcurrentMap} 的
+     * {@link hygge.commons.template.container.inner.ConcurrentLRUHashMap}、{@link hygge.commons.template.container.inner.TinyLFUHashMap}、
+     * {@link hygge.commons.template.container.inner.ExpiringHashMap} 均满足。
+     * 子类容器非线程安全时，需要重写该方法并与写操作使用同一把锁(参考 {@link AbstractFIFOHyggeKeeper})
+     */
+    protected V restoreFromSnapshot(K key) {
+        MappedSnapshot<K, V> currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            return container.get(key);
+        }
+        V restored = currentSnapshot.restore(key);
+        if (currentSnapshot.size() == 0) {
+            // 全部还原后释放对映射文件的引用
+            this.snapshot = null;
+        }
+        if (restored == null) {
+            return container.get(key);
+        }
+        V existing = container.putIfAbsent(key, restored);
+        return existing == null ? restored : existing;
+    }
+
+    protected void discardSnapshot(K key) {
+        MappedSnapshot<K, V> currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            currentSnapshot.discard(key);
+        }
     }
 }
@@ -16,74 +16,67 @@
 
 package hygge.commons.template.container.base;
 
-import hygge.commons.template.container.inner.FIFOLinkedHashMap;
+import hygge.commons.template.container.definition.Weigher;
+import hygge.commons.template.container.inner.ConcurrentLRUHashMap;
 
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * 拥有最近最少使用淘汰策略的 HyggeKeeper
+ * <p>
+ * 容器本身即线程安全的 {@link ConcurrentLRUHashMap}，不同分段之间的读写互不阻塞
  *
  * @author Xavier
  * @date 2023/3/14
  * @since 1.0
  */
 public abstract class AbstractLRUHyggeKeeper<K, V> extends AbstractHyggeKeeper<K, V> {
-    protected ReentrantReadWriteLock readWriteLock;
+    /**
+     * 容器已改为自带分段锁的 {@link ConcurrentLRUHashMap}，当前类不再使用该锁；
+     * 仅为兼容在子类中用它组合多个操作的既有代码而保留，新代码请直接使用容器的原子操作
+     */
+    @Deprecated
+    protected ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     protected Integer maxSize;
+    /**
+     * 总权重上限，与 maxSize 二选一
+     */
+    protected Long maxWeight;
+    protected Weigher<? super K, ? super V> weigher;
 
     protected AbstractLRUHyggeKeeper(Integer maxSize) {
-        this.readWriteLock = new ReentrantReadWriteLock();
-        this.maxSize = maxSize;
+        this(16, 0.75F, maxSize);
     }
 
     protected AbstractLRUHyggeKeeper(int initialCapacity, float loadFactor, Integer maxSize) {
         super(initialCapacity, loadFactor);
-        this.readWriteLock = new ReentrantReadWriteLock();
         this.maxSize = maxSize;
+        initContainer(initialCapacity, loadFactor);
     }
 
-    @Override
-    protected void initContainer(int initialCapacity, float loadFactor) {
-        this.container = new FIFOLinkedHashMap<>(initialCapacity, loadFactor, maxSize);
-    }
-
-    @Override
-    public boolean containsKey(K key) {
-        readWriteLock.readLock().lock();
-        try {
-            return super.containsKey(key);
-        } finally {
-            readWriteLock.readLock().unlock();
-        }
-    }
-
-    @Override
-    public V saveValue(K key, V value) {
-        readWriteLock.writeLock().lock();
-        try {
-            return super.saveValue(key, value);
-        } finally {
-            readWriteLock.writeLock().unlock();
-        }
+    /**
+     * 按总权重而非元素数量限制容量
+     *
+     * @param maxWeight 总权重上限
+     * @param weigher   元素权重计算器，内置实现见 {@link hygge.commons.template.container.inner.DefaultWeigher}
+     */
+    protected AbstractLRUHyggeKeeper(int initialCapacity, float loadFactor, long maxWeight, Weigher<? super K, ? super V> weigher) {
+        super(initialCapacity, loadFactor);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        initContainer(initialCapacity, loadFactor);
     }
 
     @Override
-    public V getValue(K key) {
-        readWriteLock.readLock().lock();
-        try {
-            return super.getValue(key);
-        } finally {
-            readWriteLock.readLock().unlock();
+    protected void initContainer(int initialCapacity, float loadFactor) {
+        // 父类构造方法执行时 maxSize/maxWeight 尚未赋值，由当前类构造方法在赋值后再完成初始化
+        if (maxWeight != null) {
+            this.container = new ConcurrentLRUHashMap<>(initialCapacity, loadFactor, maxWeight, weigher);
+            return;
         }
-    }
-
-    @Override
-    public V getValueOfNullable(K key, V defaultValue) {
-        readWriteLock.readLock().lock();
-        try {
-            return super.getValueOfNullable(key, defaultValue);
-        } finally {
-            readWriteLock.readLock().unlock();
+        if (maxSize == null) {
+            return;
         }
+        this.container = new ConcurrentLRUHashMap<>(initialCapacity, loadFactor, maxSize);
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.LoadingHyggeKeeper;
+import hygge.commons.template.container.stats.HyggeContainerStatsRecorder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * 未命中时可自动加载的 HyggeKeeper
+ * <p>
+ * 正在进行中的加载以 key 为粒度登记在 {@link AbstractLoadingHyggeKeeper#inFlight} 中，同一个 key 的并发未命中共享一次加载，
+ * 不同 key 之间没有任何公共锁。加载结果会先存入 {@link AbstractHyggeKeeper#container} 再撤销登记，因此撤销后到达的调用方一定能直接命中。
+ * <br/>
+ * 子类可重写 {@link AbstractHyggeKeeper#initContainer(int, float)} 使用带淘汰策略的容器。
+ * 加载函数中不允许再次加载同一个 key，否则会抛出 {@link UtilRuntimeException}
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractLoadingHyggeKeeper<K, V> extends AbstractHyggeKeeper<K, V> implements LoadingHyggeKeeper<K, V> {
+    /**
+     * 正在进行中的加载
+     */
+    protected final ConcurrentHashMap<K, LoadingFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    protected AbstractLoadingHyggeKeeper() {
+        super();
+    }
+
+    protected AbstractLoadingHyggeKeeper(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V result = getValue(key);
+        if (result != null) {
+            return result;
+        }
+
+        LoadingFuture<V> future = new LoadingFuture<>(Thread.currentThread());
+        LoadingFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(key, existing);
+        }
+        load(key, loader, future);
+        return future.getNow(null);
+    }
+
+    /**
+     * 使用 {@link ForkJoinPool#commonPool()} 执行加载的 {@link AbstractLoadingHyggeKeeper#getAsync(Object, Function, Executor)}
+     */
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader) {
+        return getAsync(key, loader, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader, Executor executor) {
+        V result = getValue(key);
+        if (result != null) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        LoadingFuture<V> future = new LoadingFuture<>(null);
+        LoadingFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return copyOf(existing);
+        }
+        try {
+            executor.execute(() -> load(key, loader, future));
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return copyOf(future);
+    }
+
+    /**
+     * 执行加载，并以加载结果完成 future，调用前 future 必须已经登记在 {@link AbstractLoadingHyggeKeeper#inFlight} 中
+     */
+    protected void load(K key, Function<? super K, ? extends V> loader, LoadingFuture<V> future) {
+        HyggeContainerStatsRecorder recorder = statsRecorder;
+        long startTs = System.nanoTime();
+        try {
+            // 登记前可能恰好有其他加载完成并撤销了登记，此时无需重复加载
+            V result = container.get(key);
+            if (result == null) {
+                result = loader.apply(key);
+                if (recorder != null) {
+                    recorder.recordLoadSuccess(System.nanoTime() - startTs);
+                }
+                if (result != null) {
+                    saveLoadedValue(key, result);
+                }
+            }
+            future.complete(result);
+        } catch (Throwable e) {
+            if (recorder != null) {
+                recorder.recordLoadFailure(System.nanoTime() - startTs);
+            }
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+        if (future.owner != null && future.isCompletedExceptionally()) {
+            // 同步加载时将异常原样抛给调用方
+            await(key, future);
+        }
+    }
+
+    /**
+     * 将加载结果存入容器，子类可重写以记录额外信息
+     */
+    protected void saveLoadedValue(K key, V value) {
+        discardSnapshot(key);
+        container.put(key, value);
+    }
+
+    private V await(K key, LoadingFuture<V> future) {
+        if (future.owner == Thread.currentThread() && !future.isDone()) {
+            throw new UtilRuntimeException(String.format("Recursive load of key(%s) is not allowed.", key));
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UtilRuntimeException(String.format("Fail to load key(%s).", key), cause);
+        }
+    }
+
+    /**
+     * 返回给调用方的是副本，避免调用方手动完成共享的 future 影响其他调用方
+     */
+    private static <V> CompletableFuture<V> copyOf(CompletableFuture<V> future) {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * 记录了同步加载线程的 future
+     */
+    protected static class LoadingFuture<V> extends CompletableFuture<V> {
+        /**
+         * 同步加载的线程，异步加载时为 null
+         */
+        private final Thread owner;
+
+        protected LoadingFuture(Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.constant.enums.EvictionPolicyEnum;
+import hygge.commons.template.container.definition.LongKeyHyggeKeeper;
+import hygge.commons.template.container.inner.LongKeyLinkedOpenHashMap;
+
+/**
+ * 以 long 为 key 的 HyggeKeeper，非线程安全
+ * <p>
+ * 每个元素只占用 long[] 与 Object[] 中的各一个槽位(开启淘汰策略时再加两个 int)，不装箱也不创建 Entry 对象，
+ * 适合单线程构建后只读，或由调用方自行保证互斥的大型 ID 索引表。多线程读写请使用 {@link AbstractConcurrentLongKeyHyggeKeeper}
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractLongKeyHyggeKeeper<V> implements LongKeyHyggeKeeper<V> {
+    protected LongKeyLinkedOpenHashMap<V> container;
+
+    protected AbstractLongKeyHyggeKeeper() {
+        this(16, 0.75F, null, EvictionPolicyEnum.NONE);
+    }
+
+    /**
+     * @param maxSize        容量上限，evictionPolicy 为 {@link EvictionPolicyEnum#NONE} 时忽略
+     * @param evictionPolicy 淘汰策略
+     */
+    protected AbstractLongKeyHyggeKeeper(int initialCapacity, float loadFactor, Integer maxSize, EvictionPolicyEnum evictionPolicy) {
+        this.container = new LongKeyLinkedOpenHashMap<>(initialCapacity, loadFactor, maxSize, evictionPolicy);
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        return container.containsKey(key);
+    }
+
+    @Override
+    public V saveValue(long key, V value) {
+        return container.put(key, value);
+    }
+
+    @Override
+    public V getValue(long key) {
+        return container.get(key);
+    }
+
+    @Override
+    public V getValueOfNullable(long key, V defaultValue) {
+        return container.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V removeValue(long key) {
+        return container.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return container.size();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.inner.OffHeapBuddyArena;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 值存放在堆外内存中的字节数组容器，常用于缓存序列化后的响应体等大块数据
+ * <p>
+ * 值被拷贝进 {@link OffHeapBuddyArena} 管理的直接内存 slab，堆内只保留 key 与一个很小的块描述对象，大块数据不再进入老年代。
+ * 堆外内存总量受 maxCapacityBytes 限制，空间不足时按最近最少使用顺序淘汰元素。
+ * <p>
+ * {@link AbstractOffHeapHyggeKeeper#getValue(Object)} 返回的是共享堆外内存的只读视图(零拷贝)，
+ * 该 key 被覆盖、移除或淘汰后视图中的内容可能被其他元素改写，需要长期持有时请使用
+ * {@link AbstractOffHeapHyggeKeeper#getBytes(Object)} 或在 {@link AbstractOffHeapHyggeKeeper#readValue(Object, Function)} 中完成读取
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractOffHeapHyggeKeeper<K> {
+    /**
+     * 默认 slab 大小 1MB
+     */
+    protected static final int DEFAULT_SLAB_BYTES = 1 << 20;
+    /**
+     * 默认最小块大小 64B
+     */
+    protected static final int DEFAULT_MIN_BLOCK_BYTES = 64;
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final OffHeapBuddyArena arena;
+    /**
+     * 访问顺序的索引，最久未使用的元素在头部
+     */
+    protected final LinkedHashMap<K, Block> index;
+
+    protected AbstractOffHeapHyggeKeeper(long maxCapacityBytes) {
+        this(maxCapacityBytes, DEFAULT_SLAB_BYTES, DEFAULT_MIN_BLOCK_BYTES);
+    }
+
+    /**
+     * @param maxCapacityBytes 堆外内存总量上限
+     * @param slabBytes        单个 slab 大小，也是单个值的长度上限
+     * @param minBlockBytes    最小块大小
+     */
+    protected AbstractOffHeapHyggeKeeper(long maxCapacityBytes, int slabBytes, int minBlockBytes) {
+        this.arena = new OffHeapBuddyArena(maxCapacityBytes, slabBytes, minBlockBytes);
+        this.index = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public boolean containsKey(K key) {
+        lock.lock();
+        try {
+            return index.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void saveValue(K key, byte[] value) {
+        saveValue(key, ByteBuffer.wrap(value));
+    }
+
+    /**
+     * 将 value 中 position 到 limit 之间的内容拷贝到堆外，value 自身的 position 不会改变
+     */
+    public void saveValue(K key, ByteBuffer value) {
+        int length = value.remaining();
+        if (length > arena.getSlabBytes()) {
+            throw new UtilRuntimeException("Unexpected value length(" + length + "),it should not be greater than slabBytes(" + arena.getSlabBytes() + ").");
+        }
+        lock.lock();
+        try {
+            Block old = index.remove(key);
+            if (old != null) {
+                arena.free(old.handle, old.length);
+            }
+
+            long handle = arena.allocate(length);
+            Iterator<Map.Entry<K, Block>> iterator = index.entrySet().iterator();
+            while (handle == OffHeapBuddyArena.NO_BLOCK && iterator.hasNext()) {
+                // 按最近最少使用顺序淘汰，直到空闲块合并出足够的空间
+                Block eldest = iterator.next().getValue();
+                iterator.remove();
+                arena.free(eldest.handle, eldest.length);
+                handle = arena.allocate(length);
+            }
+            if (handle == OffHeapBuddyArena.NO_BLOCK) {
+                throw new UtilRuntimeException("Fail to allocate " + length + " bytes off-heap.");
+            }
+
+            arena.slice(handle, length).put(value.duplicate());
+            index.put(key, new Block(handle, length));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 根据 key 获取值的只读视图(零拷贝)
+     *
+     * @return 不存在时返回 null
+     */
+    public ByteBuffer getValue(K key) {
+        lock.lock();
+        try {
+            Block block = index.get(key);
+            return block == null ? null : arena.slice(block.handle, block.length).asReadOnlyBuffer();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 根据 key 获取值的堆内拷贝
+     *
+     * @return 不存在时返回 null
+     */
+    public byte[] getBytes(K key) {
+        return readValue(key, buffer -> {
+            byte[] result = new byte[buffer.remaining()];
+            buffer.get(result);
+            return result;
+        });
+    }
+
+    /**
+     * 在持有锁的情况下读取值，读取期间该值不会被改写
+     *
+     * @param reader 读取函数，入参为值的只读视图，不存在时不会调用
+     * @return 不存在时返回 null
+     */
+    public <R> R readValue(K key, Function<ByteBuffer, R> reader) {
+        lock.lock();
+        try {
+            Block block = index.get(key);
+            return block == null ? null : reader.apply(arena.slice(block.handle, block.length).asReadOnlyBuffer());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean removeValue(K key) {
+        lock.lock();
+        try {
+            Block old = index.remove(key);
+            if (old == null) {
+                return false;
+            }
+            arena.free(old.handle, old.length);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            index.clear();
+            arena.reset();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 按块大小计算的已使用堆外内存字节数
+     */
+    public long getUsedBytes() {
+        lock.lock();
+        try {
+            return arena.getAllocatedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 堆外内存块描述
+     */
+    protected static final class Block {
+        private final long handle;
+        private final int length;
+
+        private Block(long handle, int length) {
+            this.handle = handle;
+            this.length = length;
+        }
+    }
+}
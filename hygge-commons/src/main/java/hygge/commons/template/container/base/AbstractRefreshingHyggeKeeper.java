@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.AsyncReloader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 写入一段时间后在后台异步刷新的 HyggeKeeper，常用于码表、租户配置等参考数据
+ * <p>
+ * 元素写入超过 refreshAfterWriteMillis 后，下一次读取会触发一次异步刷新，读取方立即拿到旧值，不会因刷新产生延迟。
+ * 同一元素同时只会有一个刷新在进行；刷新失败(异常或返回 null)时保留旧值，并按指数退避推迟下一次刷新。
+ * 刷新完成时如果元素已被其他线程覆盖，则放弃本次刷新结果。
+ * <p>
+ * 刷新状态保存在独立的 {@link AbstractRefreshingHyggeKeeper#refreshStates} 中，子类使用了带淘汰策略的容器时，
+ * 如果容器实现了 {@link hygge.commons.template.container.inner.EvictionObservable}，元素被淘汰时会同步移除其刷新状态；
+ * 否则可以定期调用 {@link AbstractRefreshingHyggeKeeper#cleanUp()} 清理；通过 {@link AbstractRefreshingHyggeKeeper#removeValue(Object)}
+ * 移除元素时会同时移除其刷新状态。
+ * reloader 抛出异常或返回 null 与刷新失败同样处理。
+ * <p>
+ * 刷新结果通过 container.replace 写回，容器需要保证其原子性(ConcurrentHashMap 或实现了 ConcurrentMap 的容器)
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractRefreshingHyggeKeeper<K, V> extends AbstractLoadingHyggeKeeper<K, V> {
+    /**
+     * 默认首次失败后的退避时长 1s
+     */
+    protected static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000L;
+    /**
+     * 默认最大退避时长 5min
+     */
+    protected static final long DEFAULT_MAX_BACKOFF_MILLIS = 300000L;
+    protected final ConcurrentHashMap<K, RefreshState> refreshStates = new ConcurrentHashMap<>();
+    protected long refreshAfterWriteMillis;
+    protected AsyncReloader<K, V> reloader;
+    protected Executor executor;
+    protected long initialBackoffMillis;
+    protected long maxBackoffMillis;
+
+    protected AbstractRefreshingHyggeKeeper(long refreshAfterWriteMillis, AsyncReloader<K, V> reloader) {
+        this(refreshAfterWriteMillis, reloader, ForkJoinPool.commonPool());
+    }
+
+    protected AbstractRefreshingHyggeKeeper(long refreshAfterWriteMillis, AsyncReloader<K, V> reloader, Executor executor) {
+        this(16, 0.75F, refreshAfterWriteMillis, reloader, executor, DEFAULT_INITIAL_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS);
+    }
+
+    /**
+     * @param refreshAfterWriteMillis 写入后多久触发刷新(毫秒)
+     * @param reloader                异步重新加载器
+     * @param executor                传递给 reloader 的执行器
+     * @param initialBackoffMillis    首次刷新失败后的退避时长(毫秒)，之后每次失败翻倍
+     * @param maxBackoffMillis        最大退避时长(毫秒)
+     */
+    protected AbstractRefreshingHyggeKeeper(int initialCapacity, float loadFactor, long refreshAfterWriteMillis, AsyncReloader<K, V> reloader, Executor executor, long initialBackoffMillis, long maxBackoffMillis) {
+        super(initialCapacity, loadFactor);
+        if (refreshAfterWriteMillis < 1L) {
+            throw new UtilRuntimeException("Unexpected refreshAfterWriteMillis(" + refreshAfterWriteMillis + "),it should be greater than 0.");
+        }
+        if (reloader == null || executor == null) {
+            throw new UtilRuntimeException("Unexpected reloader or executor,they can't be null.");
+        }
+        if (initialBackoffMillis < 1L || maxBackoffMillis < initialBackoffMillis) {
+            throw new UtilRuntimeException(String.format("Unexpected backoff(%d,%d),maxBackoffMillis should not be less than initialBackoffMillis and both should be greater than 0.", initialBackoffMillis, maxBackoffMillis));
+        }
+        this.refreshAfterWriteMillis = refreshAfterWriteMillis;
+        this.reloader = reloader;
+        this.executor = executor;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Override
+    public V saveValue(K key, V value) {
+        V result = super.saveValue(key, value);
+        markWritten(key);
+        return result;
+    }
+
+    @Override
+    public V getValue(K key) {
+        V result = super.getValue(key);
+        if (result != null) {
+            refreshIfNecessary(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V getValueOfNullable(K key, V defaultValue) {
+        V result = getValue(key);
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * 移除元素及其刷新状态
+     *
+     * @return 被移除的值，不存在时返回 null
+     */
+    public V removeValue(K key) {
+        discardSnapshot(key);
+        V result = container.remove(key);
+        refreshStates.remove(key);
+        return result;
+    }
+
+    /**
+     * 清理容器中已不存在的元素的刷新状态
+     */
+    public void cleanUp() {
+        refreshStates.keySet().removeIf(key -> !container.containsKey(key));
+    }
+
+    @Override
+    protected void onEviction(K key, V value) {
+        super.onEviction(key, value);
+        refreshStates.remove(key);
+    }
+
+    @Override
+    protected void saveLoadedValue(K key, V value) {
+        super.saveLoadedValue(key, value);
+        markWritten(key);
+    }
+
+    /**
+     * 当前时间戳(毫秒)，子类可重写以替换时间来源
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected void refreshIfNecessary(K key, V value) {
+        RefreshState state = refreshStates.get(key);
+        if (state == null) {
+            // 通过其他途径直接写入容器的元素，从首次读取开始计时
+            markWritten(key);
+            return;
+        }
+        if (currentTimeMillis() < state.nextRefreshTs || !state.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        CompletableFuture<V> future;
+        try {
+            future = reloader.reload(key, value, executor);
+            if (future == null) {
+                throw new UtilRuntimeException(String.format("Unexpected reload result of key(%s),it can't be null.", key));
+            }
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        try {
+            future.whenComplete((newValue, throwable) -> {
+                try {
+                    if (throwable != null || newValue == null) {
+                        backOff(state);
+                        return;
+                    }
+                    // 仅当元素未被其他线程覆盖时才替换
+                    if (container.replace(key, value, newValue)) {
+                        state.failureCount = 0;
+                        state.nextRefreshTs = currentTimeMillis() + refreshAfterWriteMillis;
+                    }
+                } finally {
+                    state.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 回调未能注册时同样需要释放刷新标记，否则该元素再也不会刷新
+            backOff(state);
+            state.refreshing.set(false);
+        }
+    }
+
+    /**
+     * 保留旧值，按指数退避推迟下一次刷新，只在持有 refreshing 标记时调用
+     */
+    private void backOff(RefreshState state) {
+        state.failureCount++;
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(state.failureCount - 1, 30));
+        state.nextRefreshTs = currentTimeMillis() + Math.max(backoff, 0L);
+    }
+
+    private void markWritten(K key) {
+        observeEviction();
+        RefreshState state = refreshStates.get(key);
+        if (state == null) {
+            RefreshState newState = new RefreshState();
+            state = refreshStates.putIfAbsent(key, newState);
+            if (state == null) {
+                state = newState;
+            }
+        }
+        state.failureCount = 0;
+        state.nextRefreshTs = currentTimeMillis() + refreshAfterWriteMillis;
+    }
+
+    /**
+     * 单个元素的刷新状态
+     */
+    protected static final class RefreshState {
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        /**
+         * 下一次允许刷新的时间戳
+         */
+        private volatile long nextRefreshTs;
+        /**
+         * 连续失败次数，只在持有 refreshing 标记时修改
+         */
+        private volatile int failureCount;
+    }
+}
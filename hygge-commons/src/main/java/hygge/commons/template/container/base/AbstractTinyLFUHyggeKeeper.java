@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.template.container.inner.TinyLFUHashMap;
+
+/**
+ * 拥有 W-TinyLFU 淘汰策略的 HyggeKeeper
+ * <p>
+ * 新元素需要在访问频率上胜过淘汰候选者才能进入主区域，适合存在大量一次性 key(如全表扫描)的场景，
+ * 在不扩大容量的前提下保持较高的命中率
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public abstract class AbstractTinyLFUHyggeKeeper<K, V> extends AbstractHyggeKeeper<K, V> {
+    protected Integer maxSize;
+
+    protected AbstractTinyLFUHyggeKeeper(Integer maxSize) {
+        this(16, 0.75F, maxSize);
+    }
+
+    protected AbstractTinyLFUHyggeKeeper(int initialCapacity, float loadFactor, Integer maxSize) {
+        super(initialCapacity, loadFactor);
+        this.maxSize = maxSize;
+        initContainer(initialCapacity, loadFactor);
+    }
+
+    @Override
+    protected void initContainer(int initialCapacity, float loadFactor) {
+        // 父类构造方法执行时 maxSize 尚未赋值，由当前类构造方法在赋值后再完成初始化
+        if (maxSize == null) {
+            return;
+        }
+        this.container = new TinyLFUHashMap<>(initialCapacity, loadFactor, maxSize);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.definition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * 容器元素的异步重新加载器
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface AsyncReloader<K, V> {
+    /**
+     * 异步重新加载元素
+     *
+     * @param oldValue 当前(即将过时)的值
+     * @param executor 容器配置的执行器
+     * @return 新值，以 null 完成或异常完成均视为重新加载失败，容器会保留旧值
+     */
+    CompletableFuture<V> reload(K key, V oldValue, Executor executor);
+
+    /**
+     * 将同步的加载函数包装为在 executor 中执行的 {@link AsyncReloader}
+     */
+    static <K, V> AsyncReloader<K, V> of(BiFunction<? super K, ? super V, ? extends V> reloader) {
+        return (key, oldValue, executor) -> CompletableFuture.supplyAsync(() -> reloader.apply(key, oldValue), executor);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.definition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 未命中时可自动加载的 {@link HyggeKeeper}
+ * <p>
+ * 同一个 key 的并发未命中只会触发一次加载，其余调用方共享该次加载的结果；不同 key 的加载互不阻塞
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface LoadingHyggeKeeper<K, V> extends HyggeKeeper<K, V> {
+    /**
+     * 根据 key 从容器中获取对象，未命中时通过 loader 加载并存入容器
+     *
+     * @param loader 加载函数，返回 null 时不会存入容器
+     * @return key 对应的对象
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    /**
+     * {@link LoadingHyggeKeeper#get(Object, Function)} 的异步版本，加载在 executor 中执行，调用线程不会被阻塞
+     *
+     * @param loader   加载函数，返回 null 时不会存入容器
+     * @param executor 执行加载的线程池
+     */
+    CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader, Executor executor);
+}
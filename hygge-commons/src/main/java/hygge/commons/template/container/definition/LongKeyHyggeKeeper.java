@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.definition;
+
+/**
+ * 以 long 为 key 的特定类型对象容器，key 不会被装箱
+ * <p>
+ * 常用于缓存以 SnowFlake ID 等数值主键索引的对象
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @see HyggeKeeper
+ * @since 1.0
+ */
+public interface LongKeyHyggeKeeper<V> {
+    /**
+     * 检测容器中是否存在特定的 key
+     */
+    boolean containsKey(long key);
+
+    /**
+     * 向容器中以 key 存入特定对象
+     *
+     * @param value 不可为 null
+     * @return 如果当前 key 已在容器中已存在，那么返回该 key 对应的旧对象
+     */
+    V saveValue(long key, V value);
+
+    /**
+     * 根据 key 从容器中获取对象
+     */
+    V getValue(long key);
+
+    /**
+     * 根据 key 从容器中获取对象
+     *
+     * @return key 对应的对象。如果容器中不存在该 key ，则返回 defaultValue
+     */
+    V getValueOfNullable(long key, V defaultValue);
+
+    /**
+     * 根据 key 从容器中移除对象
+     *
+     * @return key 对应的旧对象
+     */
+    V removeValue(long key);
+
+    /**
+     * 容器中的元素数量
+     */
+    int size();
+}
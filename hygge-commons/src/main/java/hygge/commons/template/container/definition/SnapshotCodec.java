@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.definition;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 容器快照中 key 或 value 的编解码器
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface SnapshotCodec<T> {
+    /**
+     * 编码
+     */
+    byte[] encode(T target);
+
+    /**
+     * 解码
+     *
+     * @param buffer 只读缓冲区，position 到 limit 之间恰好是 {@link SnapshotCodec#encode(Object)} 的结果
+     */
+    T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.definition;
+
+/**
+ * 容器元素权重计算器，按权重而非数量限制容器容量时使用
+ * <p>
+ * 权重的单位由实现自行约定(内置实现均为近似堆内字节数)，同一容器中应保持一致。
+ * 元素存入容器时计算一次权重，之后不会重新计算，因此不应在存入后修改元素内容
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+    /**
+     * 计算元素权重
+     *
+     * @return 非负数
+     */
+    int weigh(K key, V value);
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.Weigher;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 基于 最近最少使用 淘汰策略的线程安全 Map 容器。
+ * <p>
+ * 内部按 key 的哈希值划分为若干个分段，每个分段是一个由独立锁保护的 {@link LRULinkedHashMap}，
+ * 不同分段之间的读写互不阻塞。容量按分段平均分配，容器超出容量时，会将所在分段中最久未使用的元素进行驱逐(近似 LRU)。
+ * <br/>
+ * 也可以按总权重限制容量，此时每个分段是一个 {@link WeightedLinkedHashMap}，权重上限同样按分段平均分配。
+ * <p>
+ * {@link ConcurrentMap} 的复合操作(putIfAbsent/replace/compute 系列/merge 等)均在 key 所在分段的锁内完成，是原子的；
+ * 传入的函数在持有分段锁时执行，不应耗时过长，也不应再访问当前容器。
+ * <p>
+ * {@link ConcurrentLRUHashMap#entrySet()} 返回的是当前时刻的快照，对快照的修改不会影响容器本身。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class ConcurrentLRUHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, EvictionObservable<K, V> {
+    /**
+     * 默认分段数量上限
+     */
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    /**
+     * 按权重限制容量时的默认分段数量上限，分段越多单个分段的权重上限越小，能容纳的单个元素也越小
+     */
+    private static final int DEFAULT_WEIGHTED_CONCURRENCY_LEVEL = 4;
+    private final Integer maxSize;
+    private final Long maxWeight;
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    public ConcurrentLRUHashMap(Integer maxSize) {
+        this(16, 0.75f, maxSize);
+    }
+
+    public ConcurrentLRUHashMap(int initialCapacity, float loadFactor, Integer maxSize) {
+        this(initialCapacity, loadFactor, maxSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param concurrencyLevel 分段数量上限，实际分段数量为不超过 min(concurrencyLevel, maxSize) 的最大 2 的幂
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLRUHashMap(int initialCapacity, float loadFactor, Integer maxSize, int concurrencyLevel) {
+        if (maxSize == null || maxSize < 1) {
+            throw new UtilRuntimeException("Unexpected maxSize(" + maxSize + "),it should be greater than 0.");
+        }
+        this.maxSize = maxSize;
+        this.maxWeight = null;
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, maxSize)));
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+
+        int segmentInitialCapacity = Math.max(1, initialCapacity / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            // 容量尽量平均分配，保证各分段容量之和恰好等于 maxSize
+            int segmentMaxSize = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(new LRULinkedHashMap<>(segmentInitialCapacity, loadFactor, segmentMaxSize));
+        }
+    }
+
+    public ConcurrentLRUHashMap(int initialCapacity, float loadFactor, long maxWeight, Weigher<? super K, ? super V> weigher) {
+        this(initialCapacity, loadFactor, maxWeight, weigher, DEFAULT_WEIGHTED_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * 按总权重限制容量
+     *
+     * @param maxWeight        总权重上限，单个元素权重超过所在分段的权重上限时会被立即淘汰
+     * @param concurrencyLevel 分段数量上限，实际分段数量为不超过 concurrencyLevel 的最大 2 的幂
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentLRUHashMap(int initialCapacity, float loadFactor, long maxWeight, Weigher<? super K, ? super V> weigher, int concurrencyLevel) {
+        if (maxWeight < 1) {
+            throw new UtilRuntimeException("Unexpected maxWeight(" + maxWeight + "),it should be greater than 0.");
+        }
+        this.maxSize = null;
+        this.maxWeight = maxWeight;
+
+        int segmentCount = Integer.highestOneBit((int) Math.max(1, Math.min(concurrencyLevel, maxWeight)));
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+
+        int segmentInitialCapacity = Math.max(1, initialCapacity / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            long segmentMaxWeight = maxWeight / segmentCount + (i < maxWeight % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(new WeightedLinkedHashMap<>(segmentInitialCapacity, loadFactor, true, segmentMaxWeight, weigher));
+        }
+    }
+
+    @Override
+    public int size() {
+        long result = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                result += segment.map.size();
+            } finally {
+                segment.unlock();
+            }
+        }
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.containsKey(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Segment<K, V> segment = segmentFor(key);
+        // 访问顺序的 LinkedHashMap 在 get 时也会调整链表，因此读操作同样需要独占分段锁
+        segment.lock();
+        try {
+            return segment.map.get(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.getOrDefault(key, defaultValue);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.put(key, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.remove(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.putIfAbsent(key, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.remove(key, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.replace(key, oldValue, newValue);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.replace(key, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.computeIfAbsent(key, mappingFunction);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.computeIfPresent(key, remappingFunction);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.compute(key, remappingFunction);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            return segment.map.merge(key, value, remappingFunction);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Map<K, V> snapshot = new HashMap<>();
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                snapshot.putAll(segment.map);
+            } finally {
+                segment.unlock();
+            }
+        }
+        return snapshot.entrySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        for (Segment<K, V> segment : segments) {
+            // 在分段锁内设置，保证后续持有该分段锁的线程可见
+            segment.lock();
+            try {
+                ((EvictionObservable<K, V>) segment.map).setEvictionListener(evictionListener);
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    public Integer getMaxSize() {
+        return maxSize;
+    }
+
+    public Long getMaxWeight() {
+        return maxWeight;
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * 由独立锁保护的分段
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+        /**
+         * {@link LRULinkedHashMap} 或 accessOrder 为 true 的 {@link WeightedLinkedHashMap}
+         */
+        private final Map<K, V> map;
+
+        private Segment(Map<K, V> map) {
+            this.map = map;
+        }
+    }
+}
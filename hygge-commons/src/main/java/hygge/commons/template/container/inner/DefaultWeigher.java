@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.template.container.definition.Weigher;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 内置的元素权重计算器，权重均为值的近似堆内字节数(不计 key)
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public enum DefaultWeigher implements Weigher<Object, Object> {
+    /**
+     * 每个元素权重均为 1，等价于按数量限制
+     */
+    SINGLETON {
+        @Override
+        public int weigh(Object key, Object value) {
+            return 1;
+        }
+    },
+    /**
+     * {@link String}
+     */
+    STRING {
+        @Override
+        public int weigh(Object key, Object value) {
+            return saturatedAdd(OBJECT_OVERHEAD, 2L * ((String) value).length());
+        }
+    },
+    /**
+     * byte[]
+     */
+    BYTE_ARRAY {
+        @Override
+        public int weigh(Object key, Object value) {
+            return saturatedAdd(OBJECT_OVERHEAD, ((byte[]) value).length);
+        }
+    },
+    /**
+     * {@link ByteBuffer}，堆外缓冲区不占用堆内空间，只计算对象本身
+     */
+    BYTE_BUFFER {
+        @Override
+        public int weigh(Object key, Object value) {
+            ByteBuffer buffer = (ByteBuffer) value;
+            return buffer.isDirect() ? OBJECT_OVERHEAD : saturatedAdd(OBJECT_OVERHEAD, buffer.capacity());
+        }
+    },
+    /**
+     * {@link Collection} 与 {@link Map}，逐个累加元素的 {@link DefaultWeigher#AUTO} 权重
+     */
+    COLLECTION {
+        @Override
+        public int weigh(Object key, Object value) {
+            long result = OBJECT_OVERHEAD;
+            if (value instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    result += REFERENCE_OVERHEAD + AUTO.weigh(null, entry.getKey()) + AUTO.weigh(null, entry.getValue());
+                }
+            } else {
+                for (Object item : (Collection<?>) value) {
+                    result += REFERENCE_OVERHEAD + AUTO.weigh(null, item);
+                }
+            }
+            return saturatedAdd(result, 0);
+        }
+    },
+    /**
+     * 按值的实际类型选择上述实现，无法识别的类型按一个普通对象计算
+     */
+    AUTO {
+        @Override
+        public int weigh(Object key, Object value) {
+            if (value instanceof String) {
+                return STRING.weigh(key, value);
+            } else if (value instanceof byte[]) {
+                return BYTE_ARRAY.weigh(key, value);
+            } else if (value instanceof ByteBuffer) {
+                return BYTE_BUFFER.weigh(key, value);
+            } else if (value instanceof Collection || value instanceof Map) {
+                return COLLECTION.weigh(key, value);
+            }
+            return value == null ? 0 : OBJECT_OVERHEAD;
+        }
+    },
+    ;
+
+    /**
+     * 对象头与长度字段等固定开销的近似值
+     */
+    private static final int OBJECT_OVERHEAD = 16;
+    /**
+     * 集合中每个元素的引用及节点开销的近似值
+     */
+    private static final int REFERENCE_OVERHEAD = 8;
+
+    private static int saturatedAdd(long base, long delta) {
+        return (int) Math.min(Integer.MAX_VALUE, base + delta);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 以枚举为 key 的线程安全容器，按枚举序号(ordinal)直接寻址。
+ * <p>
+ * 首次写入时才按 key 所属枚举类型的常量数量分配 {@link AtomicReferenceArray}，只读或从未写入的实例不会分配任何额外空间；
+ * 读写均无锁。同一实例中出现其他枚举类型的 key 时，这些 key 退化存放到按需创建的 {@link ConcurrentHashMap} 中。
+ * <p>
+ * 与 {@link ConcurrentHashMap} 一致，不允许存入 null
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class EnumSlotTable {
+    /**
+     * 各枚举类型的常量数量，避免每次分配都克隆 values() 数组
+     */
+    private static final ClassValue<Integer> ENUM_CONSTANT_COUNT = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return type.getEnumConstants().length;
+        }
+    };
+    /**
+     * 槽位数组对应的枚举类型，总是先于 {@link EnumSlotTable#slots} 写入，读取 slots 后即可见
+     */
+    private Class<?> enumClass;
+    private volatile AtomicReferenceArray<Object> slots;
+    private volatile Map<Enum<?>, Object> overflow;
+
+    public boolean containsKey(Enum<?> key) {
+        return get(key) != null;
+    }
+
+    public Object get(Enum<?> key) {
+        AtomicReferenceArray<Object> currentSlots = slots;
+        if (currentSlots != null && key.getDeclaringClass() == enumClass) {
+            return currentSlots.get(key.ordinal());
+        }
+        Map<Enum<?>, Object> currentOverflow = overflow;
+        return currentOverflow == null ? null : currentOverflow.get(key);
+    }
+
+    public Object getOrDefault(Enum<?> key, Object defaultValue) {
+        Object result = get(key);
+        return result == null ? defaultValue : result;
+    }
+
+    public Object put(Enum<?> key, Object value) {
+        if (value == null) {
+            throw new UtilRuntimeException("Unexpected value,it can't be null.");
+        }
+        AtomicReferenceArray<Object> currentSlots = slots;
+        if (currentSlots == null) {
+            currentSlots = initSlots(key);
+        }
+        if (key.getDeclaringClass() == enumClass) {
+            return currentSlots.getAndSet(key.ordinal(), value);
+        }
+        return overflow().put(key, value);
+    }
+
+    public Object remove(Enum<?> key) {
+        AtomicReferenceArray<Object> currentSlots = slots;
+        if (currentSlots != null && key.getDeclaringClass() == enumClass) {
+            return currentSlots.getAndSet(key.ordinal(), null);
+        }
+        Map<Enum<?>, Object> currentOverflow = overflow;
+        return currentOverflow == null ? null : currentOverflow.remove(key);
+    }
+
+    private synchronized AtomicReferenceArray<Object> initSlots(Enum<?> key) {
+        if (slots == null) {
+            Class<?> declaringClass = key.getDeclaringClass();
+            this.enumClass = declaringClass;
+            this.slots = new AtomicReferenceArray<>(ENUM_CONSTANT_COUNT.get(declaringClass));
+        }
+        return slots;
+    }
+
+    private Map<Enum<?>, Object> overflow() {
+        Map<Enum<?>, Object> result = overflow;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            if (overflow == null) {
+                overflow = new ConcurrentHashMap<>(4);
+            }
+            return overflow;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 支持监听元素驱逐事件的容器
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface EvictionObservable<K, V> {
+    /**
+     * 设置驱逐监听器，容器因容量或过期主动移除元素时触发，显式调用 remove/clear 不会触发
+     * <p>
+     * 监听器可能在容器内部锁中被调用，不应执行耗时操作
+     *
+     * @param evictionListener 驱逐监听器，为 null 时表示取消监听
+     */
+    void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener);
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.constant.enums.ExpiryPolicyEnum;
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 元素会过期的线程安全 Map 容器。
+ * <p>
+ * 读操作直接访问 {@link ConcurrentHashMap}，遇到已过期的元素时顺带移除(惰性清理)；
+ * 写操作会在写入后推进 {@link HierarchicalTimingWheel}，批量移除到期元素(主动清理)，因此过期不依赖全量扫描。
+ * 元素被覆盖、移除或容器被清空时会同步从时间轮中摘除，时间轮不会在到期前继续持有它们。
+ * <p>
+ * {@link ConcurrentMap} 的复合操作(putIfAbsent/replace/compute 系列/merge 等)借助 {@link ConcurrentHashMap#compute} 原子完成，
+ * 已过期的元素视为不存在；函数返回当前值本身时保留原元素及其到期时间，否则以默认有效时长写入新元素。
+ * <p>
+ * {@link ExpiryPolicyEnum#AFTER_ACCESS} 模式下，读操作只会刷新元素的到期时间，元素在时间轮中的位置由到期时再次检查时修正。
+ * <br/>
+ * {@link ExpiringHashMap#entrySet()} 返回的是当前时刻未过期元素的快照，对快照的修改不会影响容器本身。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class ExpiringHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, EvictionObservable<K, V> {
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    /**
+     * 默认有效时长(毫秒)
+     */
+    private final long defaultTtlMillis;
+    private final ExpiryPolicyEnum expiryPolicy;
+    private final HierarchicalTimingWheel<Node<K, V>> timingWheel;
+    /**
+     * 保护时间轮及 {@link Node#timerEntry} 的锁
+     */
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private volatile BiConsumer<? super K, ? super V> evictionListener;
+
+    public ExpiringHashMap(long defaultTtlMillis, ExpiryPolicyEnum expiryPolicy) {
+        this(16, 0.75f, defaultTtlMillis, expiryPolicy);
+    }
+
+    public ExpiringHashMap(int initialCapacity, float loadFactor, long defaultTtlMillis, ExpiryPolicyEnum expiryPolicy) {
+        checkTtl(defaultTtlMillis);
+        if (expiryPolicy == null) {
+            throw new UtilRuntimeException("Unexpected expiryPolicy,it can't be null.");
+        }
+        this.data = new ConcurrentHashMap<>(initialCapacity, loadFactor);
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.expiryPolicy = expiryPolicy;
+        this.timingWheel = new HierarchicalTimingWheel<>(currentTimeMillis());
+    }
+
+    @Override
+    public int size() {
+        cleanUp();
+        return data.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getAliveNode(key, false) != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        return getOrDefault(key, null);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        Node<K, V> node = getAliveNode(key, true);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, defaultTtlMillis);
+    }
+
+    /**
+     * 以指定的有效时长存入元素
+     *
+     * @param ttlMillis 有效时长(毫秒)
+     * @return 如果当前 key 已存在且未过期，返回旧值
+     */
+    public V put(K key, V value, long ttlMillis) {
+        checkTtl(ttlMillis);
+        long now = currentTimeMillis();
+        Node<K, V> node = new Node<>(key, value, ttlMillis, now + ttlMillis);
+        Node<K, V> old = data.put(key, node);
+        afterReplace(old, node, now);
+        return old == null || old.expireAt <= now ? null : old.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> old = data.remove(key);
+        if (old == null) {
+            return null;
+        }
+        long now = currentTimeMillis();
+        afterReplace(old, null, now);
+        return old.expireAt <= now ? null : old.value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Node<K, V> previous = transform(key, (k, current) -> current == null ? value : current).previous;
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        @SuppressWarnings("unchecked")
+        Transition<K, V> transition = transform((K) key, (k, current) -> current != null && Objects.equals(current, value) ? null : current);
+        return transition.previous != null && transition.current == null;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Node<K, V> previous = transform(key, (k, current) -> current != null && Objects.equals(current, oldValue) ? newValue : current).previous;
+        return previous != null && Objects.equals(previous.value, oldValue);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Node<K, V> previous = transform(key, (k, current) -> current == null ? null : value).previous;
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Node<K, V> result = transform(key, (k, current) -> current == null ? mappingFunction.apply(k) : current).current;
+        return result == null ? null : result.value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Node<K, V> result = transform(key, (k, current) -> current == null ? null : remappingFunction.apply(k, current)).current;
+        return result == null ? null : result.value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Node<K, V> result = transform(key, remappingFunction).current;
+        return result == null ? null : result.value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Node<K, V> result = transform(key, (k, current) -> current == null ? value : remappingFunction.apply(current, value)).current;
+        return result == null ? null : result.value;
+    }
+
+    @Override
+    public void clear() {
+        wheelLock.lock();
+        try {
+            // 持有时间轮锁清空，并发写入要么先完成调度随后被一并摘除，要么在加锁后发现元素已不在容器中而放弃调度
+            data.clear();
+            timingWheel.clear();
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        long now = currentTimeMillis();
+        Map<K, V> snapshot = new HashMap<>();
+        for (Node<K, V> node : data.values()) {
+            if (node.expireAt > now) {
+                snapshot.put(node.key, node.value);
+            }
+        }
+        return snapshot.entrySet();
+    }
+
+    @Override
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * 推进时间轮，移除所有到期元素
+     */
+    public void cleanUp() {
+        wheelLock.lock();
+        try {
+            timingWheel.advance(currentTimeMillis(), this::onWheelExpire);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * 当前时间戳(毫秒)，子类可重写以替换时间来源
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * 时间轮中尚未到期且未被摘除的元素个数
+     */
+    public int getScheduledSize() {
+        wheelLock.lock();
+        try {
+            return timingWheel.size();
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private Node<K, V> getAliveNode(Object key, boolean access) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        long now = currentTimeMillis();
+        if (node.expireAt <= now) {
+            // 惰性清理，仅当容器中仍是同一个元素时才移除
+            evict(node);
+            return null;
+        }
+        if (access && expiryPolicy == ExpiryPolicyEnum.AFTER_ACCESS) {
+            node.expireAt = now + node.ttlMillis;
+        }
+        return node;
+    }
+
+    /**
+     * 在 key 所在的 {@link ConcurrentHashMap} 桶内原子地重新计算元素，已过期的元素视为不存在
+     */
+    private Transition<K, V> transform(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        long now = currentTimeMillis();
+        Transition<K, V> transition = new Transition<>();
+        data.compute(key, (k, node) -> {
+            transition.replaced = node;
+            Node<K, V> alive = node == null || node.expireAt <= now ? null : node;
+            V newValue = remappingFunction.apply(k, alive == null ? null : alive.value);
+            Node<K, V> result;
+            if (newValue == null) {
+                result = null;
+            } else if (alive != null && newValue == alive.value) {
+                result = alive;
+            } else {
+                result = new Node<>(k, newValue, defaultTtlMillis, now + defaultTtlMillis);
+            }
+            transition.previous = alive;
+            transition.current = result;
+            return result;
+        });
+        if (transition.current != transition.replaced) {
+            afterReplace(transition.replaced, transition.current, now);
+        }
+        return transition;
+    }
+
+    /**
+     * 容器中 old 被 current 取代后(任一方都可能为 null)，同步时间轮：摘除 old，调度 current
+     */
+    private void afterReplace(Node<K, V> old, Node<K, V> current, long now) {
+        wheelLock.lock();
+        try {
+            timingWheel.advance(now, this::onWheelExpire);
+            if (old != null) {
+                timingWheel.cancel(old.timerEntry);
+                old.timerEntry = null;
+            }
+            // 并发写入时后加锁的一方可能已被覆盖、移除或清空，此时不再调度，避免时间轮持有失效元素
+            if (current != null && data.get(current.key) == current) {
+                current.timerEntry = timingWheel.schedule(current, current.expireAt);
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /**
+     * 时间轮槽位到期回调，调用方已持有时间轮锁
+     */
+    private void onWheelExpire(Node<K, V> node) {
+        node.timerEntry = null;
+        if (data.get(node.key) != node) {
+            // 已被覆盖或移除
+            return;
+        }
+        if (node.expireAt <= timingWheel.getCurrentTime()) {
+            evict(node);
+        } else {
+            // 到期时间被访问刷新过，重新调度
+            node.timerEntry = timingWheel.schedule(node, node.expireAt);
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        // 并发下惰性清理与时间轮可能同时命中同一元素，以移除成功者为准，保证只通知一次
+        if (!data.remove(node.key, node)) {
+            return;
+        }
+        wheelLock.lock();
+        try {
+            timingWheel.cancel(node.timerEntry);
+            node.timerEntry = null;
+        } finally {
+            wheelLock.unlock();
+        }
+        BiConsumer<? super K, ? super V> listener = evictionListener;
+        if (listener != null) {
+            listener.accept(node.key, node.value);
+        }
+    }
+
+    private static void checkTtl(long ttlMillis) {
+        if (ttlMillis < 1L) {
+            throw new UtilRuntimeException("Unexpected ttlMillis(" + ttlMillis + "),it should be greater than 0.");
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long ttlMillis;
+        private volatile long expireAt;
+        /**
+         * 当前元素在时间轮中的节点，仅在持有时间轮锁时访问
+         */
+        private HierarchicalTimingWheel.Entry<Node<K, V>> timerEntry;
+
+        private Node(K key, V value, long ttlMillis, long expireAt) {
+            this.key = key;
+            this.value = value;
+            this.ttlMillis = ttlMillis;
+            this.expireAt = expireAt;
+        }
+    }
+
+    /**
+     * 一次原子重新计算的结果
+     */
+    private static final class Transition<K, V> {
+        /**
+         * 计算前容器中的元素(可能已过期)
+         */
+        private Node<K, V> replaced;
+        /**
+         * 计算前未过期的元素
+         */
+        private Node<K, V> previous;
+        /**
+         * 计算后容器中的元素
+         */
+        private Node<K, V> current;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+/**
+ * 基于 Count-Min Sketch 的访问频率估算器
+ * <p>
+ * 每个计数器只占 4 位(最大计数 15)，16 个计数器打包在一个 long 中，每个元素对应 4 个计数器，估算值取其最小值。
+ * 累计记录次数达到采样上限后，所有计数器减半，使历史热点能够逐渐 "冷却"。
+ * <p>
+ * 非线程安全，需要由调用方保证互斥访问
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    /**
+     * 计数器减半时，用于清除从相邻计数器移入的最高位
+     */
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedSize 预期会被追踪的元素数量(一般为缓存容量)
+     */
+    public FrequencySketch(int expectedSize) {
+        int maximum = Math.max(expectedSize, 8);
+        int capacity = Integer.highestOneBit(Math.min(maximum, 1 << 30) - 1) << 1;
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = (int) Math.min(10L * maximum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 返回元素访问频率的估算值 [0, 15]
+     */
+    public int frequency(Object item) {
+        int hash = spread(item);
+        int result = 15;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int count = (int) ((table[indexOf(hash, i)] >>> counterShift(hash, i)) & 0xFL);
+            result = Math.min(result, count);
+        }
+        return result;
+    }
+
+    /**
+     * 记录一次访问
+     */
+    public void increment(Object item) {
+        int hash = spread(item);
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int shift = counterShift(hash, i);
+            if (((table[index] >>> shift) & 0xFL) != 0xFL) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 所有计数器减半
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long result = (hash + SEEDS[i]) * SEEDS[i];
+        result += result >>> 32;
+        return (int) result & tableMask;
+    }
+
+    private int counterShift(int hash, int i) {
+        // 每个 long 中有 16 个 4 位计数器
+        return ((hash >>> (i << 3)) & 0xF) << 2;
+    }
+
+    private int spread(Object item) {
+        int hash = item == null ? 0 : item.hashCode();
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import java.util.function.Consumer;
+
+/**
+ * 分层时间轮
+ * <p>
+ * 共 5 层，每层 64 个槽位，各层单个槽位跨度依次为 64ms、4s、4.4min、4.7h、12.4d。
+ * 到期时间越远的元素放在越高的层级，高层槽位到期时元素会被交给回调，由回调决定是移除还是重新调度(降级到更低层级)，
+ * 因此调度与推进的均摊时间复杂度均为 O(1)，无需全量扫描。
+ * <p>
+ * 每个槽位是一条带哨兵的双向循环链表，{@link HierarchicalTimingWheel#schedule(Object, long)} 返回元素所在的链表节点，
+ * 元素被覆盖或移除时可以通过 {@link HierarchicalTimingWheel#cancel(Entry)} 以 O(1) 的代价将其摘除，时间轮不会继续持有它。
+ * <p>
+ * 超出最高层跨度的元素会被提前交给回调，回调重新调度即可。非线程安全，需要由调用方保证互斥访问
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class HierarchicalTimingWheel<T> {
+    private static final int BUCKET_BITS = 6;
+    private static final int BUCKET_COUNT = 1 << BUCKET_BITS;
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+    /**
+     * 各层单个槽位跨度(毫秒)对应的位移量
+     */
+    private static final int[] SHIFTS = {6, 12, 18, 24, 30};
+    /**
+     * 各槽位链表的哨兵节点
+     */
+    private final Entry<T>[] buckets;
+    /**
+     * 时间轮当前时间
+     */
+    private long currentTime;
+    /**
+     * 时间轮中的元素个数
+     */
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HierarchicalTimingWheel(long currentTime) {
+        this.currentTime = currentTime;
+        this.buckets = new Entry[SHIFTS.length * BUCKET_COUNT];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = Entry.sentinel();
+        }
+    }
+
+    /**
+     * 调度一个元素
+     *
+     * @param item     元素
+     * @param expireAt 到期时间戳(毫秒)
+     * @return 元素在时间轮中的节点，可用于 {@link HierarchicalTimingWheel#cancel(Entry)}
+     */
+    public Entry<T> schedule(T item, long expireAt) {
+        long delay = expireAt - currentTime;
+        int level = 0;
+        // 第 level 层可容纳的最大延迟为 2 ^ (SHIFTS[level] + BUCKET_BITS)
+        while (level < SHIFTS.length - 1 && delay >= 1L << (SHIFTS[level] + BUCKET_BITS)) {
+            level++;
+        }
+        // 至少放入下一个槽位，否则要等时间轮转满一圈才会触发
+        long ticks = Math.max(expireAt >>> SHIFTS[level], (currentTime >>> SHIFTS[level]) + 1L);
+        Entry<T> entry = new Entry<>(item);
+        entry.linkBefore(buckets[level * BUCKET_COUNT + (int) (ticks & BUCKET_MASK)]);
+        size++;
+        return entry;
+    }
+
+    /**
+     * 将元素从时间轮中摘除，元素已到期被交给回调、已被摘除或 entry 为 null 时什么也不做
+     *
+     * @param entry {@link HierarchicalTimingWheel#schedule(Object, long)} 返回的节点
+     */
+    public void cancel(Entry<T> entry) {
+        if (entry != null && entry.unlink()) {
+            size--;
+        }
+    }
+
+    /**
+     * 将时间轮推进到指定时间，所有经过的槽位中的元素都会交给 onExpire 处理
+     *
+     * @param now      目标时间戳(毫秒)
+     * @param onExpire 槽位到期回调，回调中可以再次调用 {@link HierarchicalTimingWheel#schedule(Object, long)}
+     *                 或 {@link HierarchicalTimingWheel#cancel(Entry)}
+     */
+    public void advance(long now, Consumer<T> onExpire) {
+        long previous = currentTime;
+        if (now <= previous) {
+            return;
+        }
+        this.currentTime = now;
+
+        for (int level = 0; level < SHIFTS.length; level++) {
+            long previousTicks = previous >>> SHIFTS[level];
+            long currentTicks = now >>> SHIFTS[level];
+            if (currentTicks <= previousTicks) {
+                // 低层级没有跨过槽位时，高层级更不可能跨过
+                break;
+            }
+            int count = (int) Math.min(currentTicks - previousTicks, BUCKET_COUNT);
+            for (int i = 1; i <= count; i++) {
+                Entry<T> bucket = buckets[level * BUCKET_COUNT + (int) ((previousTicks + i) & BUCKET_MASK)];
+                if (bucket.isEmpty()) {
+                    continue;
+                }
+                // 先整体转移到临时链表，回调中重新调度的元素才不会与正在遍历的槽位冲突，回调中摘除其他元素也不会破坏遍历
+                Entry<T> expired = Entry.sentinel();
+                expired.spliceFrom(bucket);
+                while (!expired.isEmpty()) {
+                    Entry<T> entry = expired.next;
+                    entry.unlink();
+                    size--;
+                    onExpire.accept(entry.item);
+                }
+            }
+        }
+    }
+
+    /**
+     * 摘除所有元素，时间轮当前时间保持不变
+     */
+    public void clear() {
+        for (Entry<T> bucket : buckets) {
+            while (!bucket.isEmpty()) {
+                bucket.next.unlink();
+            }
+        }
+        size = 0;
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * @return 时间轮中尚未到期且未被摘除的元素个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 槽位链表节点，未处于任何链表中时 prev 与 next 均为 null
+     */
+    public static final class Entry<T> {
+        private final T item;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(T item) {
+            this.item = item;
+        }
+
+        private static <T> Entry<T> sentinel() {
+            Entry<T> sentinel = new Entry<>(null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * @return 当前节点是否仍在时间轮中
+         */
+        public boolean isLinked() {
+            return next != null;
+        }
+
+        private boolean isEmpty() {
+            return next == this;
+        }
+
+        private void linkBefore(Entry<T> sentinel) {
+            this.prev = sentinel.prev;
+            this.next = sentinel;
+            sentinel.prev.next = this;
+            sentinel.prev = this;
+        }
+
+        private boolean unlink() {
+            if (next == null) {
+                return false;
+            }
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            return true;
+        }
+
+        /**
+         * 将另一个哨兵链表中的全部节点转移到当前(空)哨兵链表中
+         */
+        private void spliceFrom(Entry<T> other) {
+            this.next = other.next;
+            this.prev = other.prev;
+            this.next.prev = this;
+            this.prev.next = this;
+            other.next = other;
+            other.prev = other;
+        }
+    }
+}
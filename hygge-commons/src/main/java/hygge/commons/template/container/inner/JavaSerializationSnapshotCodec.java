@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.SnapshotCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 基于 Java 序列化的二进制快照编解码器，可还原任意 {@link java.io.Serializable} 对象的实际类型，
+ * 适合值类型不固定的 HyggeContext
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+@SuppressWarnings("unchecked")
+public class JavaSerializationSnapshotCodec<T> implements SnapshotCodec<T> {
+    @Override
+    public byte[] encode(T target) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(target);
+        } catch (IOException e) {
+            throw new UtilRuntimeException("Fail to serialize " + target.getClass().getName() + ".", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public T decode(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UtilRuntimeException("Fail to deserialize snapshot entry.", e);
+        }
+    }
+}
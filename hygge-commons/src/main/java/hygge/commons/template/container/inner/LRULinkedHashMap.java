@@ -18,6 +18,7 @@ package hygge.commons.template.container.inner;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * 基于 最近最少使用 淘汰策略的 Map 容器。
@@ -28,8 +29,9 @@ import java.util.Map;
  * @date 2023/1/15
  * @since 1.0
  */
-public class LRULinkedHashMap<K, V> extends LinkedHashMap<K, V> {
+public class LRULinkedHashMap<K, V> extends LinkedHashMap<K, V> implements EvictionObservable<K, V> {
     private final Integer maxSize;
+    private BiConsumer<? super K, ? super V> evictionListener;
 
     public LRULinkedHashMap(Integer maxSize) {
         super(16, 0.75f, true);
@@ -43,7 +45,16 @@ public class LRULinkedHashMap<K, V> extends LinkedHashMap<K, V> {
 
     @Override
     protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > maxSize;
+        boolean evict = size() > maxSize;
+        if (evict && evictionListener != null) {
+            evictionListener.accept(eldest.getKey(), eldest.getValue());
+        }
+        return evict;
+    }
+
+    @Override
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
     }
 
     public Integer getMaxSize() {
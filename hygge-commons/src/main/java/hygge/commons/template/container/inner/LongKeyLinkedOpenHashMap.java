@@ -0,0 +1,393 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.constant.enums.EvictionPolicyEnum;
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * 以 long 为 key 的开放寻址(线性探测)哈希表，非线程安全。
+ * <p>
+ * key 与 value 分别存放在 long[] 与 Object[] 中，不装箱也没有 Entry 对象；value 为 null 的槽位即空槽位，因此不允许存入 null。
+ * 删除时采用向后移位(backward shift)而非墓碑标记，表中不会因删除积累无效槽位。
+ * <p>
+ * 开启 {@link EvictionPolicyEnum#FIFO} 或 {@link EvictionPolicyEnum#LRU} 时，额外以两个 int[] 按槽位下标维护双向链表记录元素顺序，
+ * 超出 maxSize 时淘汰链表头部元素。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class LongKeyLinkedOpenHashMap<V> implements EvictionObservable<Long, V> {
+    private static final int NIL = -1;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private final float loadFactor;
+    private final Integer maxSize;
+    private final EvictionPolicyEnum evictionPolicy;
+    private long[] keys;
+    private Object[] values;
+    /**
+     * 链表前驱，未开启淘汰时为 null
+     */
+    private int[] before;
+    /**
+     * 链表后继，未开启淘汰时为 null
+     */
+    private int[] after;
+    private int head = NIL;
+    private int tail = NIL;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private BiConsumer<? super Long, ? super V> evictionListener;
+
+    public LongKeyLinkedOpenHashMap() {
+        this(16, 0.75f, null, EvictionPolicyEnum.NONE);
+    }
+
+    /**
+     * @param maxSize        容量上限，evictionPolicy 为 {@link EvictionPolicyEnum#NONE} 时忽略
+     * @param evictionPolicy 淘汰策略
+     */
+    public LongKeyLinkedOpenHashMap(int initialCapacity, float loadFactor, Integer maxSize, EvictionPolicyEnum evictionPolicy) {
+        if (loadFactor <= 0 || loadFactor >= 1) {
+            throw new UtilRuntimeException("Unexpected loadFactor(" + loadFactor + "),it should be in (0,1).");
+        }
+        if (evictionPolicy == null) {
+            throw new UtilRuntimeException("Unexpected evictionPolicy,it can't be null.");
+        }
+        if (evictionPolicy != EvictionPolicyEnum.NONE && (maxSize == null || maxSize < 1)) {
+            throw new UtilRuntimeException("Unexpected maxSize(" + maxSize + "),it should be greater than 0.");
+        }
+        this.loadFactor = loadFactor;
+        this.maxSize = evictionPolicy == EvictionPolicyEnum.NONE ? null : maxSize;
+        this.evictionPolicy = evictionPolicy;
+
+        int expected = Math.max(initialCapacity, 2);
+        if (this.maxSize != null) {
+            // 有上限时不会超过上限 + 1 个元素，避免无意义的扩容
+            expected = Math.min(expected, this.maxSize + 1);
+        }
+        allocate(tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, (long) Math.ceil(expected / loadFactor))));
+    }
+
+    /**
+     * 将 key 充分打散，SnowFlake ID 等低位规律性强的 key 也能均匀分布
+     */
+    public static long mix(long key) {
+        long h = key;
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) != NIL;
+    }
+
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        int index = indexOf(key);
+        if (index == NIL) {
+            return defaultValue;
+        }
+        if (evictionPolicy == EvictionPolicyEnum.LRU) {
+            moveToTail(index);
+        }
+        return (V) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new UtilRuntimeException("Unexpected value,it can't be null.");
+        }
+        int index = (int) mix(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V old = (V) values[index];
+                values[index] = value;
+                if (evictionPolicy == EvictionPolicyEnum.LRU) {
+                    moveToTail(index);
+                }
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        linkLast(index);
+        size++;
+
+        if (maxSize != null && size > maxSize) {
+            evictEldest();
+        }
+        if (size > resizeThreshold) {
+            resize(values.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index == NIL) {
+            return null;
+        }
+        V old = (V) values[index];
+        removeAt(index);
+        return old;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        if (before != null) {
+            Arrays.fill(before, NIL);
+            Arrays.fill(after, NIL);
+        }
+        head = NIL;
+        tail = NIL;
+        size = 0;
+    }
+
+    /**
+     * 遍历所有元素，开启淘汰策略时按淘汰顺序(最先被淘汰的在前)遍历，遍历过程中不允许修改容器
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjectConsumer<? super V> action) {
+        if (before != null) {
+            for (int index = head; index != NIL; index = after[index]) {
+                action.accept(keys[index], (V) values[index]);
+            }
+            return;
+        }
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != null) {
+                action.accept(keys[index], (V) values[index]);
+            }
+        }
+    }
+
+    @Override
+    public void setEvictionListener(BiConsumer<? super Long, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    public Integer getMaxSize() {
+        return maxSize;
+    }
+
+    public EvictionPolicyEnum getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    private int indexOf(long key) {
+        int index = (int) mix(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return NIL;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictEldest() {
+        int eldest = head;
+        long key = keys[eldest];
+        V value = (V) values[eldest];
+        removeAt(eldest);
+        if (evictionListener != null) {
+            evictionListener.accept(key, value);
+        }
+    }
+
+    private void removeAt(int index) {
+        unlink(index);
+        values[index] = null;
+        size--;
+
+        // 向后移位：将后续探测链上"理想位置不在 (gap, current] 区间内"的元素前移填补空位
+        int gap = index;
+        int current = index;
+        while (true) {
+            current = (current + 1) & mask;
+            if (values[current] == null) {
+                return;
+            }
+            int ideal = (int) mix(keys[current]) & mask;
+            boolean stay = gap <= current ? gap < ideal && ideal <= current : gap < ideal || ideal <= current;
+            if (stay) {
+                continue;
+            }
+            keys[gap] = keys[current];
+            values[gap] = values[current];
+            values[current] = null;
+            relink(current, gap);
+            gap = current;
+        }
+    }
+
+    private void resize(int newCapacity) {
+        if (values.length >= MAXIMUM_CAPACITY) {
+            resizeThreshold = Integer.MAX_VALUE;
+            return;
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldAfter = after;
+        int oldHead = head;
+        allocate(newCapacity);
+
+        if (oldAfter != null) {
+            // 按链表顺序重新插入，保留淘汰顺序
+            for (int index = oldHead; index != NIL; index = oldAfter[index]) {
+                insertForResize(oldKeys[index], oldValues[index]);
+            }
+        } else {
+            for (int index = 0; index < oldValues.length; index++) {
+                if (oldValues[index] != null) {
+                    insertForResize(oldKeys[index], oldValues[index]);
+                }
+            }
+        }
+    }
+
+    private void insertForResize(long key, Object value) {
+        int index = (int) mix(key) & mask;
+        while (values[index] != null) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        linkLast(index);
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        if (evictionPolicy != EvictionPolicyEnum.NONE) {
+            this.before = new int[capacity];
+            this.after = new int[capacity];
+            Arrays.fill(before, NIL);
+            Arrays.fill(after, NIL);
+        }
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.mask = capacity - 1;
+        this.resizeThreshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private void linkLast(int index) {
+        if (before == null) {
+            return;
+        }
+        before[index] = tail;
+        after[index] = NIL;
+        if (tail == NIL) {
+            head = index;
+        } else {
+            after[tail] = index;
+        }
+        tail = index;
+    }
+
+    private void unlink(int index) {
+        if (before == null) {
+            return;
+        }
+        int previous = before[index];
+        int next = after[index];
+        if (previous == NIL) {
+            head = next;
+        } else {
+            after[previous] = next;
+        }
+        if (next == NIL) {
+            tail = previous;
+        } else {
+            before[next] = previous;
+        }
+        before[index] = NIL;
+        after[index] = NIL;
+    }
+
+    private void moveToTail(int index) {
+        if (tail == index) {
+            return;
+        }
+        unlink(index);
+        linkLast(index);
+    }
+
+    /**
+     * 元素从槽位 from 移动到槽位 to 后，修正链表中指向该元素的引用
+     */
+    private void relink(int from, int to) {
+        if (before == null) {
+            return;
+        }
+        int previous = before[from];
+        int next = after[from];
+        before[to] = previous;
+        after[to] = next;
+        before[from] = NIL;
+        after[from] = NIL;
+        if (previous == NIL) {
+            head = to;
+        } else {
+            after[previous] = to;
+        }
+        if (next == NIL) {
+            tail = to;
+        } else {
+            before[next] = to;
+        }
+    }
+
+    private static int tableSizeFor(int expected) {
+        int n = Integer.highestOneBit(Math.max(expected - 1, 1)) << 1;
+        return Math.min(n, MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * 以 long 与对象为参数的消费者，避免遍历时装箱
+     */
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+}
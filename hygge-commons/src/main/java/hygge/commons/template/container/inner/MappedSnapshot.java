@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.SnapshotCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 基于内存映射文件的容器快照
+ * <p>
+ * 文件格式：魔数(4 字节) + 版本(4 字节) + 元素数量(4 字节)，随后依次为每个元素的 key 长度(4 字节) + key + value 长度(4 字节) + value。
+ * <br/>
+ * 打开快照时只映射文件并解码全部 key 建立索引，value 在首次被 {@link MappedSnapshot#restore(Object)} 时才解码，
+ * 因此重启后的预热几乎是瞬时的。单个快照文件不超过 2GB
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class MappedSnapshot<K, V> {
+    private static final int MAGIC = 0x48594753;
+    private static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 12;
+    private final MappedByteBuffer buffer;
+    private final SnapshotCodec<V> valueCodec;
+    /**
+     * 尚未还原的元素，value 为 (value 偏移量 &lt;&lt; 32 | value 长度)
+     */
+    private final Map<K, Long> pending;
+
+    private MappedSnapshot(MappedByteBuffer buffer, SnapshotCodec<V> valueCodec, Map<K, Long> pending) {
+        this.buffer = buffer;
+        this.valueCodec = valueCodec;
+        this.pending = pending;
+    }
+
+    /**
+     * 将元素写入快照文件，先写入临时文件再原子替换，写入过程中不会破坏已有的快照
+     *
+     * @return 写入的元素数量
+     */
+    public static <K, V> int write(Path file, Iterable<? extends Map.Entry<K, V>> entries, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) {
+        List<byte[]> encoded = new ArrayList<>();
+        long totalLength = HEADER_LENGTH;
+        for (Map.Entry<K, V> entry : entries) {
+            byte[] key = keyCodec.encode(entry.getKey());
+            byte[] value = valueCodec.encode(entry.getValue());
+            encoded.add(key);
+            encoded.add(value);
+            totalLength += 8L + key.length + value.length;
+        }
+        if (totalLength > Integer.MAX_VALUE) {
+            throw new UtilRuntimeException("Snapshot is too large(" + totalLength + " bytes),it should not be greater than 2GB.");
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer target = channel.map(FileChannel.MapMode.READ_WRITE, 0, totalLength);
+                target.putInt(MAGIC).putInt(VERSION).putInt(encoded.size() / 2);
+                for (byte[] bytes : encoded) {
+                    target.putInt(bytes.length).put(bytes);
+                }
+                target.force();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UtilRuntimeException("Fail to write snapshot(" + file + ").", e);
+        }
+        return encoded.size() / 2;
+    }
+
+    /**
+     * 映射快照文件并建立 key 索引，value 延迟解码
+     */
+    public static <K, V> MappedSnapshot<K, V> open(Path file, SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // 映射在通道关闭后依然有效
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UtilRuntimeException("Fail to open snapshot(" + file + ").", e);
+        }
+        if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new UtilRuntimeException("Unexpected snapshot(" + file + "),it is not a supported snapshot file.");
+        }
+        int count = buffer.getInt();
+        Map<K, Long> pending = new ConcurrentHashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+        for (int i = 0; i < count; i++) {
+            int keyLength = buffer.getInt();
+            K key = keyCodec.decode(slice(buffer, buffer.position(), keyLength));
+            buffer.position(buffer.position() + keyLength);
+            int valueLength = buffer.getInt();
+            pending.put(key, ((long) buffer.position() << 32) | valueLength);
+            buffer.position(buffer.position() + valueLength);
+        }
+        return new MappedSnapshot<>(buffer, valueCodec, pending);
+    }
+
+    public boolean containsKey(Object key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * 解码并移出快照中的元素，并发调用时只有一个调用方会拿到结果
+     *
+     * @return 快照中不存在或已被其他调用方移出时返回 null
+     */
+    public V restore(K key) {
+        Long position = pending.get(key);
+        if (position == null) {
+            return null;
+        }
+        V result = valueCodec.decode(slice(buffer, (int) (position >>> 32), (int) (long) position));
+        return pending.remove(key, position) ? result : null;
+    }
+
+    /**
+     * 遍历快照中尚未还原的元素，遍历会解码 value 但不会将其移出快照
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        pending.forEach((key, position) -> action.accept(key, valueCodec.decode(slice(buffer, (int) (position >>> 32), (int) (long) position))));
+    }
+
+    /**
+     * 丢弃快照中的元素，通常在该 key 被重新写入时调用，避免旧值覆盖新值
+     */
+    public void discard(Object key) {
+        pending.remove(key);
+    }
+
+    /**
+     * @return 尚未还原的元素数量
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    private static ByteBuffer slice(MappedByteBuffer buffer, int offset, int length) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.limit(offset + length);
+        duplicate.position(offset);
+        return duplicate.slice().asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 基于伙伴算法(buddy)的堆外内存分配器，非线程安全。
+ * <p>
+ * 内存以固定大小的直接内存 slab 为单位按需申请，slab 总量不超过 maxCapacityBytes。每个 slab 被视为一个最大阶的块，
+ * 分配时按 2 的幂向上取整到对应阶，从该阶(或更高阶拆分后)的空闲链表中取块；释放时与同阶的伙伴块合并，
+ * 因此反复分配释放不同大小的块也不会产生无法复用的碎片。
+ * <p>
+ * 块以 long 句柄表示：高 32 位为 slab 下标，低 32 位为 slab 内偏移量。
+ * 每一阶的空闲块以 long[] 栈加位图记录，位图是块是否空闲的唯一依据，合并时只清除伙伴块的位，栈中残留的句柄在出栈时跳过，
+ * 因此分配与释放都不会产生装箱对象
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class OffHeapBuddyArena {
+    /**
+     * 分配失败时返回的句柄
+     */
+    public static final long NO_BLOCK = -1L;
+    private final int minBlockBytes;
+    private final int slabBytes;
+    private final int maxOrder;
+    private final int minBlockShift;
+    private final int maxSlabCount;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    /**
+     * 各阶空闲块句柄
+     */
+    private final FreeList[] freeBlocks;
+    /**
+     * 已分配块占用的字节数(按块大小计)
+     */
+    private long allocatedBytes;
+
+    /**
+     * @param maxCapacityBytes 堆外内存总量上限，不足一个 slab 的部分会被舍去
+     * @param slabBytes        单个 slab 大小，必须为 minBlockBytes 乘以 2 的幂
+     * @param minBlockBytes    最小块大小，必须为 2 的幂
+     */
+    public OffHeapBuddyArena(long maxCapacityBytes, int slabBytes, int minBlockBytes) {
+        if (minBlockBytes < 1 || Integer.bitCount(minBlockBytes) != 1) {
+            throw new UtilRuntimeException("Unexpected minBlockBytes(" + minBlockBytes + "),it should be a power of 2.");
+        }
+        if (slabBytes < minBlockBytes || Integer.bitCount(slabBytes) != 1) {
+            throw new UtilRuntimeException("Unexpected slabBytes(" + slabBytes + "),it should be a power of 2 and not less than minBlockBytes.");
+        }
+        if (maxCapacityBytes < slabBytes) {
+            throw new UtilRuntimeException("Unexpected maxCapacityBytes(" + maxCapacityBytes + "),it should not be less than slabBytes(" + slabBytes + ").");
+        }
+        this.minBlockBytes = minBlockBytes;
+        this.slabBytes = slabBytes;
+        this.minBlockShift = Integer.numberOfTrailingZeros(minBlockBytes);
+        this.maxOrder = Integer.numberOfTrailingZeros(slabBytes) - minBlockShift;
+        this.maxSlabCount = (int) Math.min(Integer.MAX_VALUE, maxCapacityBytes / slabBytes);
+        this.freeBlocks = new FreeList[maxOrder + 1];
+        for (int i = 0; i <= maxOrder; i++) {
+            freeBlocks[i] = new FreeList(i);
+        }
+    }
+
+    /**
+     * 分配能容纳 length 字节的块
+     *
+     * @return 块句柄，空间不足时返回 {@link OffHeapBuddyArena#NO_BLOCK}
+     */
+    public long allocate(int length) {
+        if (length > slabBytes) {
+            throw new UtilRuntimeException("Unexpected length(" + length + "),it should not be greater than slabBytes(" + slabBytes + ").");
+        }
+        int order = orderOf(length);
+        int current = order;
+        while (current <= maxOrder && freeBlocks[current].isEmpty()) {
+            current++;
+        }
+        if (current > maxOrder) {
+            if (slabs.size() >= maxSlabCount) {
+                return NO_BLOCK;
+            }
+            // 没有可用的空闲块时才申请新的 slab
+            slabs.add(ByteBuffer.allocateDirect(slabBytes));
+            for (FreeList freeList : freeBlocks) {
+                freeList.ensureSlabCount(slabs.size());
+            }
+            freeBlocks[maxOrder].push(handle(slabs.size() - 1, 0));
+            current = maxOrder;
+        }
+
+        long block = freeBlocks[current].pop();
+        // 逐级拆分，右半部分放回低一阶的空闲链表
+        while (current > order) {
+            current--;
+            freeBlocks[current].push(block + blockBytes(current));
+        }
+        allocatedBytes += blockBytes(order);
+        return block;
+    }
+
+    /**
+     * 释放块
+     *
+     * @param length 分配该块时的 length
+     */
+    public void free(long block, int length) {
+        int order = orderOf(length);
+        allocatedBytes -= blockBytes(order);
+        long current = block;
+        while (order < maxOrder) {
+            // 伙伴块的偏移量仅在当前阶对应的位上不同
+            long buddy = current ^ blockBytes(order);
+            if (!freeBlocks[order].remove(buddy)) {
+                break;
+            }
+            current = Math.min(current, buddy);
+            order++;
+        }
+        freeBlocks[order].push(current);
+    }
+
+    /**
+     * 获取块对应的缓冲区视图，视图与块共享内存
+     *
+     * @param length 视图长度
+     */
+    public ByteBuffer slice(long block, int length) {
+        ByteBuffer duplicate = slabs.get((int) (block >>> 32)).duplicate();
+        int offset = (int) block;
+        duplicate.limit(offset + length);
+        duplicate.position(offset);
+        return duplicate.slice();
+    }
+
+    /**
+     * 释放所有块，已申请的 slab 保留以便复用
+     */
+    public void reset() {
+        for (FreeList freeList : freeBlocks) {
+            freeList.clear();
+        }
+        for (int i = 0; i < slabs.size(); i++) {
+            freeBlocks[maxOrder].push(handle(i, 0));
+        }
+        allocatedBytes = 0;
+    }
+
+    /**
+     * 按块大小计算的已分配字节数
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * 已申请的堆外内存字节数
+     */
+    public long getReservedBytes() {
+        return (long) slabs.size() * slabBytes;
+    }
+
+    public long getMaxCapacityBytes() {
+        return (long) maxSlabCount * slabBytes;
+    }
+
+    public int getSlabBytes() {
+        return slabBytes;
+    }
+
+    private int orderOf(int length) {
+        int blocks = (Math.max(length, 1) + minBlockBytes - 1) / minBlockBytes;
+        return 32 - Integer.numberOfLeadingZeros(blocks - 1);
+    }
+
+    private long blockBytes(int order) {
+        return (long) minBlockBytes << order;
+    }
+
+    /**
+     * 块在其所在阶中的全局序号，用作位图下标
+     */
+    private long indexOf(long block, int order) {
+        int offset = (int) block;
+        return ((block >>> 32) << (maxOrder - order)) | (offset >>> (minBlockShift + order));
+    }
+
+    private static long handle(int slabIndex, int offset) {
+        return ((long) slabIndex << 32) | offset;
+    }
+
+    /**
+     * 单个阶的空闲块集合
+     * <p>
+     * bits 记录块是否空闲；handles 为候选句柄栈，可能含有已被合并移除(对应位已清除)的残留句柄，
+     * 也可能含有同一块的重复句柄，出栈时以位图为准并在取用时清除对应位，保证同一块不会被重复分配
+     */
+    private final class FreeList {
+        private final int order;
+        private long[] bits = new long[0];
+        private long[] handles = new long[16];
+        private int stackSize;
+        /**
+         * 当前空闲块数量
+         */
+        private int freeCount;
+
+        private FreeList(int order) {
+            this.order = order;
+        }
+
+        private void ensureSlabCount(int slabCount) {
+            long required = (((long) slabCount << (maxOrder - order)) + 63) >>> 6;
+            if (required > bits.length) {
+                bits = Arrays.copyOf(bits, (int) Math.max(required, bits.length * 2L));
+            }
+        }
+
+        private void push(long block) {
+            setBit(indexOf(block, order));
+            freeCount++;
+            if (stackSize == handles.length) {
+                compact();
+                if (stackSize == handles.length) {
+                    handles = Arrays.copyOf(handles, handles.length * 2);
+                }
+            }
+            handles[stackSize++] = block;
+        }
+
+        /**
+         * 取出一个空闲块，调用前必须确认 {@link FreeList#isEmpty()} 为 false
+         */
+        private long pop() {
+            while (true) {
+                long block = handles[--stackSize];
+                if (remove(block)) {
+                    return block;
+                }
+            }
+        }
+
+        /**
+         * 清除块的空闲标记，栈中的句柄留待出栈或压缩时丢弃
+         *
+         * @return 块在此前是否空闲
+         */
+        private boolean remove(long block) {
+            if (!clearBit(indexOf(block, order))) {
+                return false;
+            }
+            freeCount--;
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return freeCount == 0;
+        }
+
+        private void clear() {
+            Arrays.fill(bits, 0L);
+            stackSize = 0;
+            freeCount = 0;
+        }
+
+        /**
+         * 丢弃残留与重复的句柄：保留的句柄先暂时清除其位以识别重复项，压缩完成后再恢复
+         */
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < stackSize; i++) {
+                long block = handles[i];
+                if (clearBit(indexOf(block, order))) {
+                    handles[kept++] = block;
+                }
+            }
+            for (int i = 0; i < kept; i++) {
+                setBit(indexOf(handles[i], order));
+            }
+            stackSize = kept;
+        }
+
+        private void setBit(long index) {
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+
+        private boolean clearBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if (word >= bits.length || (bits[word] & mask) == 0) {
+                return false;
+            }
+            bits[word] &= ~mask;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 基于 W-TinyLFU 淘汰策略的线程安全 Map 容器。
+ * <p>
+ * 容器分为 "准入窗口(LRU，约占 1% 容量)" 与 "主区域(分段 LRU：考察区 20% + 保护区 80%)" 两部分：<br/>
+ * 新元素先进入准入窗口，被挤出准入窗口时，只有当其访问频率({@link FrequencySketch} 估算)高于主区域中的淘汰候选者时才会被接纳，
+ * 否则直接丢弃。一次性扫描产生的大量冷数据因此无法将热点数据挤出容器。
+ * <p>
+ * {@link ConcurrentMap} 的复合操作(putIfAbsent/replace/compute 系列/merge 等)均在容器锁内完成，是原子的。
+ * <p>
+ * {@link TinyLFUHashMap#entrySet()} 返回的是当前时刻的快照，对快照的修改不会影响容器本身。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class TinyLFUHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, EvictionObservable<K, V> {
+    private final Integer maxSize;
+    private final int windowMaxSize;
+    private final int mainMaxSize;
+    private final int protectedMaxSize;
+    /**
+     * 准入窗口
+     */
+    private final LinkedHashMap<K, V> window;
+    /**
+     * 主区域考察区
+     */
+    private final LinkedHashMap<K, V> probation;
+    /**
+     * 主区域保护区
+     */
+    private final LinkedHashMap<K, V> protectedRegion;
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private BiConsumer<? super K, ? super V> evictionListener;
+
+    public TinyLFUHashMap(Integer maxSize) {
+        this(16, 0.75f, maxSize);
+    }
+
+    /**
+     * @param initialCapacity 主区域(考察区、保护区)底层 {@link LinkedHashMap} 的初始容量，准入窗口按自身容量初始化
+     * @param loadFactor      各区域底层 {@link LinkedHashMap} 的负载因子
+     * @param maxSize         元素数量上限
+     */
+    public TinyLFUHashMap(int initialCapacity, float loadFactor, Integer maxSize) {
+        if (maxSize == null || maxSize < 1) {
+            throw new UtilRuntimeException("Unexpected maxSize(" + maxSize + "),it should be greater than 0.");
+        }
+        this.maxSize = maxSize;
+        this.windowMaxSize = Math.max(1, maxSize / 100);
+        this.mainMaxSize = maxSize - windowMaxSize;
+        this.protectedMaxSize = (int) (mainMaxSize * 0.8D);
+        this.window = new LinkedHashMap<>(Math.min(initialCapacity, windowMaxSize + 1), loadFactor, true);
+        this.probation = new LinkedHashMap<>(initialCapacity, loadFactor, true);
+        this.protectedRegion = new LinkedHashMap<>(initialCapacity, loadFactor, true);
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return window.size() + probation.size() + protectedRegion.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        lock.lock();
+        try {
+            return window.containsKey(key) || probation.containsKey(key) || protectedRegion.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        lock.lock();
+        try {
+            // 未命中的访问同样计入频率，这样反复被请求的元素才有机会被接纳
+            sketch.increment(key);
+
+            if (window.containsKey(key)) {
+                return window.get(key);
+            }
+            if (protectedRegion.containsKey(key)) {
+                return protectedRegion.get(key);
+            }
+            if (probation.containsKey(key)) {
+                // 考察区元素再次被访问，晋升到保护区
+                V value = probation.remove(key);
+                protectedRegion.put((K) key, value);
+                demoteProtectedIfNecessary();
+                return value;
+            }
+            return defaultValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+
+            if (window.containsKey(key)) {
+                return window.put(key, value);
+            }
+            if (protectedRegion.containsKey(key)) {
+                return protectedRegion.put(key, value);
+            }
+            if (probation.containsKey(key)) {
+                return probation.put(key, value);
+            }
+
+            window.put(key, value);
+            if (window.size() > windowMaxSize) {
+                Map.Entry<K, V> candidate = removeEldest(window);
+                admit(candidate.getKey(), candidate.getValue());
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        lock.lock();
+        try {
+            if (window.containsKey(key)) {
+                return window.remove(key);
+            }
+            if (protectedRegion.containsKey(key)) {
+                return protectedRegion.remove(key);
+            }
+            return probation.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        lock.lock();
+        try {
+            // 存在性检查不能走 get，否则会额外计入一次访问频率并可能将元素晋升到保护区
+            V current = containsKey(key) ? peek(key) : null;
+            return current == null ? put(key, value) : current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        lock.lock();
+        try {
+            if (containsKey(key) && Objects.equals(peek(key), value)) {
+                remove(key);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        lock.lock();
+        try {
+            if (containsKey(key) && Objects.equals(peek(key), oldValue)) {
+                put(key, newValue);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        lock.lock();
+        try {
+            return containsKey(key) ? put(key, value) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        // 容器锁可重入，持锁执行默认实现时其内部的重试循环只会执行一次
+        lock.lock();
+        try {
+            return ConcurrentMap.super.computeIfAbsent(key, mappingFunction);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        lock.lock();
+        try {
+            return ConcurrentMap.super.computeIfPresent(key, remappingFunction);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        lock.lock();
+        try {
+            return ConcurrentMap.super.compute(key, remappingFunction);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        lock.lock();
+        try {
+            return ConcurrentMap.super.merge(key, value, remappingFunction);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            window.clear();
+            probation.clear();
+            protectedRegion.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        lock.lock();
+        try {
+            Map<K, V> snapshot = new HashMap<>();
+            snapshot.putAll(probation);
+            snapshot.putAll(protectedRegion);
+            snapshot.putAll(window);
+            return snapshot.entrySet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        lock.lock();
+        try {
+            this.evictionListener = evictionListener;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Integer getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 读取元素但不计入访问频率，也不调整其所在区域，调用方需持有容器锁
+     */
+    private V peek(Object key) {
+        if (window.containsKey(key)) {
+            return window.get(key);
+        }
+        if (protectedRegion.containsKey(key)) {
+            return protectedRegion.get(key);
+        }
+        return probation.get(key);
+    }
+
+    /**
+     * 被挤出准入窗口的候选者尝试进入主区域
+     */
+    private void admit(K key, V value) {
+        if (mainMaxSize < 1) {
+            notifyEviction(key, value);
+            return;
+        }
+        if (probation.size() + protectedRegion.size() < mainMaxSize) {
+            probation.put(key, value);
+            return;
+        }
+        LinkedHashMap<K, V> victimRegion = probation.isEmpty() ? protectedRegion : probation;
+        K victimKey = victimRegion.keySet().iterator().next();
+        if (sketch.frequency(key) > sketch.frequency(victimKey)) {
+            V victimValue = victimRegion.remove(victimKey);
+            probation.put(key, value);
+            notifyEviction(victimKey, victimValue);
+        } else {
+            // 候选者频率不占优时直接丢弃
+            notifyEviction(key, value);
+        }
+    }
+
+    private void notifyEviction(K key, V value) {
+        if (evictionListener != null) {
+            evictionListener.accept(key, value);
+        }
+    }
+
+    /**
+     * 保护区超出容量时，将其中最久未使用的元素降级到考察区
+     */
+    private void demoteProtectedIfNecessary() {
+        if (protectedRegion.size() > protectedMaxSize) {
+            Map.Entry<K, V> demoted = removeEldest(protectedRegion);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    private Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> region) {
+        Iterator<Map.Entry<K, V>> iterator = region.entrySet().iterator();
+        Map.Entry<K, V> eldest = iterator.next();
+        Map.Entry<K, V> result = new SimpleImmutableEntry<>(eldest.getKey(), eldest.getValue());
+        iterator.remove();
+        return result;
+    }
+}
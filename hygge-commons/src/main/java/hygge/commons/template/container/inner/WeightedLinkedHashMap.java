@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.template.container.definition.Weigher;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 按总权重限制容量的 Map 容器，非线程安全。
+ * <p>
+ * accessOrder 为 false 时按先进先出淘汰，为 true 时按最近最少使用淘汰。每次写入后从最早(最久未使用)的元素开始淘汰，
+ * 直到总权重不超过 maxWeight；单个元素权重超过 maxWeight 时，该元素写入后会被立即淘汰。
+ * <p>
+ * {@link WeightedLinkedHashMap#entrySet()} 返回的是当前时刻的快照，对快照的修改不会影响容器本身。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class WeightedLinkedHashMap<K, V> extends AbstractMap<K, V> implements EvictionObservable<K, V> {
+    private final LinkedHashMap<K, Node<V>> data;
+    private final long maxWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private long totalWeight;
+    private BiConsumer<? super K, ? super V> evictionListener;
+
+    public WeightedLinkedHashMap(int initialCapacity, float loadFactor, boolean accessOrder, long maxWeight, Weigher<? super K, ? super V> weigher) {
+        if (maxWeight < 1) {
+            throw new UtilRuntimeException("Unexpected maxWeight(" + maxWeight + "),it should be greater than 0.");
+        }
+        if (weigher == null) {
+            throw new UtilRuntimeException("Unexpected weigher,it can't be null.");
+        }
+        this.data = new LinkedHashMap<>(initialCapacity, loadFactor, accessOrder);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        Node<V> node = data.get(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new UtilRuntimeException("Unexpected weight(" + weight + ") of key(" + key + "),it should not be negative.");
+        }
+        Node<V> old = data.put(key, new Node<>(value, weight));
+        totalWeight += weight - (old == null ? 0 : old.weight);
+        evictIfNecessary();
+        return old == null ? null : old.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<V> old = data.remove(key);
+        if (old == null) {
+            return null;
+        }
+        totalWeight -= old.weight;
+        return old.value;
+    }
+
+    @Override
+    public void clear() {
+        data.clear();
+        totalWeight = 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Map<K, V> snapshot = new HashMap<>();
+        data.forEach((key, node) -> snapshot.put(key, node.value));
+        return snapshot.entrySet();
+    }
+
+    @Override
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Entry<K, Node<V>>> iterator = data.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Entry<K, Node<V>> eldest = iterator.next();
+            iterator.remove();
+            totalWeight -= eldest.getValue().weight;
+            if (evictionListener != null) {
+                evictionListener.accept(eldest.getKey(), eldest.getValue().value);
+            }
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private final int weight;
+
+        private Node(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.stats;
+
+/**
+ * 容器统计信息快照
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class HyggeContainerStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    /**
+     * 加载总耗时(纳秒)
+     */
+    private final long totalLoadTimeNanos;
+    /**
+     * 快照时刻容器中的元素数量
+     */
+    private final long size;
+
+    public HyggeContainerStats(long hitCount, long missCount, long evictionCount, long loadSuccessCount, long loadFailureCount, long totalLoadTimeNanos, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.size = size;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return 命中率，没有任何访问时返回 1.0
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0D : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return 平均每次加载耗时(纳秒)
+     */
+    public double getAverageLoadPenaltyNanos() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0D : (double) totalLoadTimeNanos / loadCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "HyggeContainerStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadTimeNanos=" + totalLoadTimeNanos +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 容器统计信息记录器
+ * <p>
+ * 各计数器均为 {@link LongAdder}，高并发下记录操作落在不同的 Cell 上，不会引入额外的竞争
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class HyggeContainerStatsRecorder {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    public void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     * @param loadTimeNanos 本次加载耗时(纳秒)
+     */
+    public void recordLoadSuccess(long loadTimeNanos) {
+        loadSuccessCount.increment();
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    /**
+     * @param loadTimeNanos 本次加载耗时(纳秒)
+     */
+    public void recordLoadFailure(long loadTimeNanos) {
+        loadFailureCount.increment();
+        totalLoadTimeNanos.add(loadTimeNanos);
+    }
+
+    /**
+     * 生成统计信息快照，并发记录时各计数器之间不保证严格一致
+     *
+     * @param size 容器当前元素数量
+     */
+    public HyggeContainerStats snapshot(long size) {
+        return new HyggeContainerStats(hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                loadSuccessCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadTimeNanos.sum(),
+                size);
+    }
+
+    public void reset() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        loadSuccessCount.reset();
+        loadFailureCount.reset();
+        totalLoadTimeNanos.reset();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.stats;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 容器统计信息注册中心
+ * <p>
+ * 仅持有容器的弱引用，容器被回收后会在下一次获取快照时自动移除
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class HyggeContainerStatsRegistry {
+    private static final Map<String, WeakReference<HyggeContainerStatsSupport>> CONTAINERS = new ConcurrentHashMap<>();
+
+    private HyggeContainerStatsRegistry() {
+    }
+
+    /**
+     * 注册容器，同名容器会被覆盖
+     */
+    public static void register(String name, HyggeContainerStatsSupport container) {
+        CONTAINERS.put(name, new WeakReference<>(container));
+    }
+
+    public static void unregister(String name) {
+        CONTAINERS.remove(name);
+    }
+
+    /**
+     * 获取所有已注册容器的统计信息快照
+     *
+     * @return 按容器名称排序的快照
+     */
+    public static Map<String, HyggeContainerStats> snapshot() {
+        Map<String, HyggeContainerStats> result = new TreeMap<>();
+        Iterator<Map.Entry<String, WeakReference<HyggeContainerStatsSupport>>> iterator = CONTAINERS.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, WeakReference<HyggeContainerStatsSupport>> entry = iterator.next();
+            HyggeContainerStatsSupport container = entry.getValue().get();
+            if (container == null) {
+                iterator.remove();
+                continue;
+            }
+            HyggeContainerStats stats = container.getStats();
+            if (stats != null) {
+                result.put(entry.getKey(), stats);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.stats;
+
+/**
+ * 可提供统计信息的容器
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface HyggeContainerStatsSupport {
+    /**
+     * 获取统计信息快照
+     *
+     * @return 未开启统计时返回 null
+     */
+    HyggeContainerStats getStats();
+}
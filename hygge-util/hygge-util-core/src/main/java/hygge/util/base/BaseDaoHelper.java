@@ -18,12 +18,15 @@ package hygge.util.base;
 
 import hygge.commons.exception.ParameterRuntimeException;
 import hygge.util.UtilCreator;
+import hygge.util.bo.ColumnBatch;
 import hygge.util.bo.ColumnInfo;
+import hygge.util.bo.ColumnPlan;
 import hygge.util.definition.DaoHelper;
 import hygge.util.definition.ParameterHelper;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 
@@ -82,4 +85,41 @@ public abstract class BaseDaoHelper implements DaoHelper {
         }
         return result;
     }
+
+    @Override
+    public ColumnPlan compileColumnPlan(Collection<ColumnInfo> checkInfoCollection) {
+        parameterHelper.notEmpty("checkInfoCollection", checkInfoCollection);
+        return ColumnPlan.compile(checkInfoCollection);
+    }
+
+    @Override
+    public HashMap<String, Object> filterOutTheFinalColumns(Map<String, Object> rawData, ColumnPlan columnPlan) {
+        return filterOutTheFinalColumns(rawData, columnPlan, null);
+    }
+
+    @Override
+    public HashMap<String, Object> filterOutTheFinalColumns(Map<String, Object> rawData, ColumnPlan columnPlan, UnaryOperator<HashMap<String, Object>> successCallBack) {
+        parameterHelper.objectNotNull("rawData", rawData);
+        parameterHelper.objectNotNull("columnPlan", columnPlan);
+
+        HashMap<String, Object> result = columnPlan.apply(rawData);
+        // 成功回调函数不为空则执行
+        if (successCallBack != null) {
+            result = successCallBack.apply(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ColumnBatch filterOutTheFinalColumnsInBatch(List<Map<String, Object>> rawDataList, Collection<ColumnInfo> checkInfoCollection) {
+        return filterOutTheFinalColumnsInBatch(rawDataList, compileColumnPlan(checkInfoCollection));
+    }
+
+    @Override
+    public ColumnBatch filterOutTheFinalColumnsInBatch(List<Map<String, Object>> rawDataList, ColumnPlan columnPlan) {
+        parameterHelper.objectNotNull("rawDataList", rawDataList);
+        parameterHelper.objectNotNull("columnPlan", columnPlan);
+
+        return columnPlan.applyBatch(rawDataList);
+    }
 }
@@ -323,22 +323,14 @@ public abstract class BaseParameterHelper implements ParameterHelper {
 
     @Override
     public int integerFormatOfNullable(String targetName, Object target, int defaultValue) {
-        Integer result = parseInteger(targetName, target);
-
-        if (result == null) {
-            result = defaultValue;
-        }
-        return hookInteger(result);
+        int result = parseIntValue(target, defaultValue, () -> unexpectedObject("value", target, targetName, Integer.class.getSimpleName()));
+        return hookIntValue(result);
     }
 
     @Override
     public int integerFormat(Object target, int defaultValue, String errorMessage) {
-        Integer result = parseInteger(target, errorMessage);
-
-        if (result == null) {
-            result = defaultValue;
-        }
-        return hookInteger(result);
+        int result = parseIntValue(target, defaultValue, () -> errorMessage);
+        return hookIntValue(result);
     }
 
     @Override
@@ -413,22 +405,14 @@ public abstract class BaseParameterHelper implements ParameterHelper {
 
     @Override
     public long longFormatOfNullable(String targetName, Object target, long defaultValue) {
-        Long result = parseLong(targetName, target);
-
-        if (result == null) {
-            result = defaultValue;
-        }
-        return hookLong(result);
+        long result = parseLongValue(target, defaultValue, () -> unexpectedObject("value", target, targetName, Long.class.getSimpleName()));
+        return hookLongValue(result);
     }
 
     @Override
     public long longFormat(Object target, long defaultValue, String errorMessage) {
-        Long result = parseLong(target, errorMessage);
-
-        if (result == null) {
-            result = defaultValue;
-        }
-        return hookLong(result);
+        long result = parseLongValue(target, defaultValue, () -> errorMessage);
+        return hookLongValue(result);
     }
 
     @Override
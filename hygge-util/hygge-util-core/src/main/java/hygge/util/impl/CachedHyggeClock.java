@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.util.definition.HyggeClock;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存时钟
+ * <p>
+ * 由一个后台线程按固定间隔刷新缓存的时间戳，读取时间只是一次 volatile 读，精度为刷新间隔。
+ * 调用 {@link CachedHyggeClock#shutdown()} 后退化为直接读取 {@link System#currentTimeMillis()}，
+ * 避免依赖时间推进的调用方(如序列号耗尽后等待下一毫秒的 {@link SnowFlakeGenerator})永远等待
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class CachedHyggeClock implements HyggeClock {
+    /**
+     * 后台刷新线程已停止的标记值
+     */
+    private static final long STOPPED = Long.MIN_VALUE;
+    /**
+     * 缓存的当前时间戳
+     */
+    private volatile long currentTs;
+    /**
+     * 负责刷新时间戳的后台线程
+     */
+    private final ScheduledExecutorService tickExecutor;
+
+    public CachedHyggeClock() {
+        this(1L);
+    }
+
+    /**
+     * @param tickMillis 刷新间隔(毫秒)
+     */
+    public CachedHyggeClock(long tickMillis) {
+        if (tickMillis < 1L) {
+            throw new UtilRuntimeException(String.format("Unexpected tickMillis(%d),it should be greater than 0.", tickMillis));
+        }
+        this.currentTs = System.currentTimeMillis();
+        this.tickExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hygge-cached-clock-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tickExecutor.scheduleAtFixedRate(() -> currentTs = System.currentTimeMillis(), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        long result = currentTs;
+        return result == STOPPED ? System.currentTimeMillis() : result;
+    }
+
+    /**
+     * 停止后台刷新线程，此后直接读取系统时间
+     */
+    public void shutdown() {
+        tickExecutor.shutdownNow();
+        try {
+            // 等待可能正在执行的刷新结束，避免其覆盖停止标记
+            tickExecutor.awaitTermination(1L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.currentTs = STOPPED;
+    }
+}
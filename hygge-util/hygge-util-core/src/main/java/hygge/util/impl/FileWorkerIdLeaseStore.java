@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.util.definition.WorkerIdLeaseStore;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于共享目录文件锁的 workerId 租约存储
+ * <p>
+ * 每个 workerId 对应租约目录下的一个文件，持有该文件的 {@link FileLock} 即代表持有该 workerId。
+ * 进程异常退出时操作系统会自动释放文件锁，因此不会出现 workerId 泄漏；续约时会将持有者与时间戳写入租约文件，便于排查。
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class FileWorkerIdLeaseStore implements WorkerIdLeaseStore {
+    /**
+     * 租约目录
+     */
+    private final Path leaseDirectory;
+    /**
+     * 当前持有者标识
+     */
+    private final String owner;
+    /**
+     * 当前实例持有的租约
+     */
+    private final Map<Long, FileLock> heldLocks = new ConcurrentHashMap<>();
+
+    public FileWorkerIdLeaseStore(String leaseDirectory) {
+        this(Paths.get(leaseDirectory));
+    }
+
+    public FileWorkerIdLeaseStore(Path leaseDirectory) {
+        try {
+            this.leaseDirectory = Files.createDirectories(leaseDirectory);
+        } catch (IOException e) {
+            throw new UtilRuntimeException(String.format("Fail to create lease directory(%s).", leaseDirectory), e);
+        }
+        this.owner = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    @Override
+    public boolean tryAcquire(long workerId) {
+        if (heldLocks.containsKey(workerId)) {
+            return false;
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(leaseFile(workerId), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                return false;
+            }
+            heldLocks.put(workerId, lock);
+            writeHeartbeat(lock);
+            return true;
+        } catch (OverlappingFileLockException e) {
+            // 同一个 JVM 内的其他租约存储已持有该文件锁
+            closeQuietly(channel);
+            return false;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UtilRuntimeException(String.format("Fail to acquire lease of workerId(%d).", workerId), e);
+        }
+    }
+
+    @Override
+    public void renew(long workerId) {
+        FileLock lock = heldLocks.get(workerId);
+        if (lock == null || !lock.isValid()) {
+            throw new UtilRuntimeException(String.format("Lease of workerId(%d) is not held by %s.", workerId, owner));
+        }
+        try {
+            writeHeartbeat(lock);
+        } catch (IOException e) {
+            throw new UtilRuntimeException(String.format("Fail to renew lease of workerId(%d).", workerId), e);
+        }
+    }
+
+    @Override
+    public void release(long workerId) {
+        FileLock lock = heldLocks.remove(workerId);
+        if (lock == null) {
+            return;
+        }
+        try {
+            lock.release();
+        } catch (IOException e) {
+            throw new UtilRuntimeException(String.format("Fail to release lease of workerId(%d).", workerId), e);
+        } finally {
+            closeQuietly(lock.channel());
+        }
+    }
+
+    private Path leaseFile(long workerId) {
+        return leaseDirectory.resolve("worker-" + workerId + ".lease");
+    }
+
+    private void writeHeartbeat(FileLock lock) throws IOException {
+        FileChannel channel = lock.channel();
+        byte[] content = String.format("%s %d", owner, System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8);
+        channel.truncate(0);
+        channel.write(ByteBuffer.wrap(content), 0);
+        channel.force(false);
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 关闭失败不影响租约结果
+        }
+    }
+}
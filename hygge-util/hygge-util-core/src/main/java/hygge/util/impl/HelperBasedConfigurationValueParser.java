@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.template.configuration.impl.DefaultHyggeConfigurationValueParser;
+import hygge.util.UtilCreator;
+import hygge.util.definition.ParameterHelper;
+import hygge.util.definition.UnitConvertHelper;
+
+/**
+ * 基于 {@link ParameterHelper} 与 {@link UnitConvertHelper} 的配置项值转换器
+ * <p>
+ * int/long/boolean 与 {@link ParameterHelper#integerFormat(String, Object)} 等方法的校验规则及异常保持一致，
+ * 存储大小通过 {@link UnitConvertHelper#storageParseToBytes(String)} 解析；
+ * BigDecimal 与时间段沿用 {@link DefaultHyggeConfigurationValueParser} 的实现(配置值无需统一精度)
+ * <p>
+ * 已通过 SPI(META-INF/services)注册，引入 hygge-util-core 后 {@link DefaultHyggeConfigurationValueParser#getGlobalDefault()} 即返回该转换器，
+ * DefaultHyggeConfiguration 默认使用它
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class HelperBasedConfigurationValueParser extends DefaultHyggeConfigurationValueParser {
+    private final ParameterHelper parameterHelper;
+    private final UnitConvertHelper unitConvertHelper;
+
+    public HelperBasedConfigurationValueParser() {
+        this(UtilCreator.INSTANCE.getDefaultInstance(ParameterHelper.class), UtilCreator.INSTANCE.getDefaultInstance(UnitConvertHelper.class));
+    }
+
+    public HelperBasedConfigurationValueParser(ParameterHelper parameterHelper, UnitConvertHelper unitConvertHelper) {
+        this.parameterHelper = parameterHelper;
+        this.unitConvertHelper = unitConvertHelper;
+    }
+
+    @Override
+    public Integer parseInteger(String key, Object value) {
+        return parameterHelper.integerFormat(key, value);
+    }
+
+    @Override
+    public Long parseLong(String key, Object value) {
+        return parameterHelper.longFormat(key, value);
+    }
+
+    @Override
+    public Boolean parseBoolean(String key, Object value) {
+        return parameterHelper.booleanFormat(key, value);
+    }
+
+    @Override
+    public Long parseStorageBytes(String key, Object value) {
+        if (isEmpty(value)) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return unitConvertHelper.storageParseToBytes(value.toString().trim());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.template.container.definition.SnapshotCodec;
+import hygge.util.UtilCreator;
+import hygge.util.definition.JsonHelper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基于 {@link JsonHelper} 的容器快照编解码器，快照内容为 UTF-8 编码的 JSON，是容器快照的默认编解码器
+ * <p>
+ * 解码时按构造时指定的类型还原，值类型不固定(如 HyggeContext)时请使用
+ * {@link hygge.commons.template.container.inner.JavaSerializationSnapshotCodec}。
+ * <br/>
+ * {@link JsonHelper#formatAsString(Object)} 会把字符串视为 JSON 文本，因此目标类型为 String 时直接按 UTF-8 编解码
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class JsonHelperSnapshotCodec<T> implements SnapshotCodec<T> {
+    private final JsonHelper<?> jsonHelper;
+    private final Class<T> targetClass;
+
+    public JsonHelperSnapshotCodec(Class<T> targetClass) {
+        this(UtilCreator.INSTANCE.getDefaultJsonHelperInstance(false), targetClass);
+    }
+
+    public JsonHelperSnapshotCodec(JsonHelper<?> jsonHelper, Class<T> targetClass) {
+        this.jsonHelper = jsonHelper;
+        this.targetClass = targetClass;
+    }
+
+    @Override
+    public byte[] encode(T target) {
+        if (targetClass == String.class) {
+            return ((String) target).getBytes(StandardCharsets.UTF_8);
+        }
+        return jsonHelper.formatAsString(target).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public T decode(ByteBuffer buffer) {
+        String content = StandardCharsets.UTF_8.decode(buffer).toString();
+        if (targetClass == String.class) {
+            return targetClass.cast(content);
+        }
+        return jsonHelper.readAsObject(content, targetClass);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.SEGMENT_REFILL_EXECUTOR;
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.SEGMENT_REFILL_PERCENT;
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.SEGMENT_SIZE;
+
+/**
+ * 双缓冲预分配 id 段的雪花算法 id 生成器
+ * <p>
+ * 同时持有 "当前段" 与 "备用段" 两个预先填充好的 id 段，当前段消耗超过水位线时由后台线程异步填充备用段，
+ * 当前段耗尽后直接切换为备用段。{@link SegmentSnowFlakeGenerator#createKey()} 只是一次数组读取加一次下标自增，
+ * 同一毫秒内序列号耗尽时的等待只会发生在后台线程中。
+ * <br/>
+ * <br/>
+ * 异步填充默认由所有实例共享的单个后台线程完成(空闲时自动回收)，也可以通过 {@link SnowFlakeGenerator.ConfigKey#SEGMENT_REFILL_EXECUTOR}
+ * 指定执行器，指定的执行器由调用方负责关闭。备用段已就绪时不会再次填充，避免覆盖尚未使用的 id 段
+ * <br/>
+ * <br/>
+ * tip: 各线程拿到的 id 依旧全局唯一，但不再保证严格按时间递增。备用段未能及时填充时会退化为在调用线程中同步填充
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class SegmentSnowFlakeGenerator extends SnowFlakeGenerator {
+    /**
+     * 每个 id 段的长度
+     */
+    private int segmentSize;
+    /**
+     * 当前段的下标达到该值时触发异步填充
+     */
+    private int refillIndex;
+    /**
+     * 当前段
+     */
+    private volatile Segment current;
+    /**
+     * 备用段(可能尚未填充完成，此时为 null)
+     */
+    private final AtomicReference<Segment> standby = new AtomicReference<>();
+    /**
+     * 是否正在异步填充备用段
+     */
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+    /**
+     * 负责异步填充备用段的执行器
+     */
+    private Executor refillExecutor;
+    /**
+     * 是否已停止异步填充
+     */
+    private volatile boolean shutdown;
+
+    public SegmentSnowFlakeGenerator() {
+        super();
+        initSegments(createDefaultConfig());
+    }
+
+    public SegmentSnowFlakeGenerator(Properties properties) {
+        super(properties);
+        initSegments(properties);
+    }
+
+    private void initSegments(Properties properties) {
+        this.segmentSize = parameterHelper.integerFormatOfNullable(SEGMENT_SIZE.getDescription(), properties.get(SEGMENT_SIZE), 4096);
+        parameterHelper.integerFormat(SEGMENT_SIZE.getDescription(), segmentSize, 1, Integer.MAX_VALUE);
+        int refillPercent = parameterHelper.integerFormatOfNullable(SEGMENT_REFILL_PERCENT.getDescription(), properties.get(SEGMENT_REFILL_PERCENT), 50);
+        parameterHelper.integerFormat(SEGMENT_REFILL_PERCENT.getDescription(), refillPercent, 0, 100);
+
+        this.refillIndex = (int) Math.min(segmentSize - 1L, (long) segmentSize * refillPercent / 100L);
+
+        Object refillExecutorTemp = properties.get(SEGMENT_REFILL_EXECUTOR);
+        if (refillExecutorTemp == null) {
+            this.refillExecutor = SharedRefillExecutor.INSTANCE;
+        } else if (refillExecutorTemp instanceof Executor) {
+            this.refillExecutor = (Executor) refillExecutorTemp;
+        } else {
+            throw new UtilRuntimeException(String.format("Unexpected %s,it should implement Executor.", SEGMENT_REFILL_EXECUTOR.getDescription()));
+        }
+        this.current = new Segment(super.createKeys(segmentSize));
+    }
+
+    @Override
+    public long createKey() {
+        while (true) {
+            Segment segment = current;
+            int index = segment.cursor.getAndIncrement();
+            if (index < segment.keys.length) {
+                if (index == refillIndex) {
+                    triggerRefill();
+                }
+                return segment.keys[index];
+            }
+            // 当前段已耗尽
+            switchSegment(segment);
+        }
+    }
+
+    /**
+     * 停止异步填充，此后备用段耗尽时只会在调用线程中同步填充
+     * <p>
+     * 共享的默认执行器与通过 {@link SnowFlakeGenerator.ConfigKey#SEGMENT_REFILL_EXECUTOR} 指定的执行器都不会被关闭
+     */
+    public void shutdown() {
+        this.shutdown = true;
+    }
+
+    /**
+     * 将已耗尽的当前段切换为备用段，备用段未就绪时在调用线程中同步填充
+     *
+     * @param exhausted 已耗尽的段
+     */
+    private synchronized void switchSegment(Segment exhausted) {
+        if (current != exhausted) {
+            // 已被其他线程切换
+            return;
+        }
+        Segment next = standby.getAndSet(null);
+        if (next == null) {
+            next = new Segment(super.createKeys(segmentSize));
+        }
+        current = next;
+    }
+
+    /**
+     * 异步填充备用段，同一时刻只会有一个填充任务，备用段已就绪时跳过
+     */
+    private void triggerRefill() {
+        // 同步填充兜底后，迟到的异步填充结果会留在备用段中，此时无需再次填充
+        if (shutdown || standby.get() != null || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    if (standby.get() == null) {
+                        standby.compareAndSet(null, new Segment(super.createKeys(segmentSize)));
+                    }
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 后台线程不可用时，由 switchSegment 同步填充兜底
+            refilling.set(false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{\"base\":%s,\"segmentSize\":%d,\"refillIndex\":%d}",
+                super.toString(),
+                segmentSize,
+                refillIndex
+        );
+    }
+
+    /**
+     * 所有实例共享的默认填充线程，首次使用时才创建，空闲 60 秒后回收
+     */
+    private static class SharedRefillExecutor {
+        private static final ThreadPoolExecutor INSTANCE = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "hygge-segment-snowflake-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            INSTANCE.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * 预先填充好的 id 段
+     */
+    private static class Segment {
+        private final long[] keys;
+        private final AtomicInteger cursor = new AtomicInteger(0);
+
+        private Segment(long[] keys) {
+            this.keys = keys;
+        }
+    }
+}
@@ -20,16 +20,24 @@ package hygge.util.impl;
 import hygge.commons.constant.enums.DateTimeFormatModeEnum;
 import hygge.commons.exception.UtilRuntimeException;
 import hygge.util.UtilCreator;
+import hygge.util.definition.HyggeClock;
 import hygge.util.definition.ParameterHelper;
 import hygge.util.definition.RandomUniqueGenerator;
 import hygge.util.definition.TimeHelper;
 
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.CLOCK;
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.IDENTITY_ALLOCATOR;
 import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.IDENTITY_LENGTH;
 import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.IDENTITY_VAL;
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.LOCK_FREE;
 import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.SEQUENCE_PART_LENGTH;
 import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.START_TS;
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.WAIT_STRATEGY;
 
 /**
  * 通用的雪花算法 id 生成器<br/>
@@ -37,7 +45,7 @@ import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.START_TS;
  * <br/>0 - tsPart - identity - sequencePart
  * <br/>
  * <br/>
- * tip: 相较 2026.4.9 之前不保证严格自增的版本，性能下降约 50%
+ * tip: 相较 2026.4.9 之前不保证严格自增的版本，性能下降约 50%，高并发场景可通过 {@link ConfigKey#LOCK_FREE} 切换为基于 CAS 的无锁模式
  *
  * @author Xavier
  * @date 2022/7/9
@@ -50,14 +58,26 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
      * 可自定义部分长度
      */
     private static final int CUSTOM_LENGTH = 63;
+    /**
+     * 无锁模式下尚未生成过 id 的标记值
+     */
+    private static final long NONE_KEY = -1L;
+    /**
+     * 可容忍的最大时间回拨(毫秒)
+     */
+    private static final long MAX_ROLLBACK_MS = 5L;
+    /**
+     * {@link WaitStrategy#BORROW} 模式下最多可借用的未来时间(毫秒)
+     */
+    private static final long MAX_BORROW_MS = 5L;
     /**
      * 起始时间戳
      */
-    private long startTs;
+    protected long startTs;
     /**
      * 会出现重复的最早时间
      */
-    private long endTs;
+    protected long endTs;
     /**
      * 时间 位数
      */
@@ -73,11 +93,11 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
     /**
      * 自增序列部分 位数
      */
-    private int sequencePartLength;
+    protected int sequencePartLength;
     /**
      * 自增序列部分 最大值
      */
-    private long sequencePartMaxVal;
+    protected long sequencePartMaxVal;
     /**
      * 生成节点标识位 实际值
      */
@@ -85,11 +105,11 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
     /**
      * 时间部分位移 偏移量
      */
-    private long tsShift;
+    protected long tsShift;
     /**
      * 生成节点标识位 按位或 目标
      */
-    private long identityOrTarget;
+    protected long identityOrTarget;
     /**
      * 自增计数器
      */
@@ -98,6 +118,34 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
      * 上一个时间戳
      */
     private long lastTs = -1L;
+    /**
+     * 是否启用基于 CAS 的无锁模式
+     */
+    private boolean lockFree;
+    /**
+     * 无锁模式下的状态：最后一次生成的 id (已经同时包含了 lastTs 与 sequence)，初始值为 {@link SnowFlakeGenerator#NONE_KEY}
+     */
+    private final AtomicLong lastKeyState = new AtomicLong(NONE_KEY);
+    /**
+     * 时钟
+     */
+    protected HyggeClock clock;
+    /**
+     * 需要等待时间推进时的等待策略
+     */
+    protected WaitStrategy waitStrategy;
+    /**
+     * 实际可容忍的时间回拨(毫秒)，{@link WaitStrategy#BORROW} 模式下额外包含可借用的未来时间
+     */
+    protected long rollbackTolerance;
+    /**
+     * 时间回拨事件计数
+     */
+    protected final LongAdder rollbackCount = new LongAdder();
+    /**
+     * 同毫秒内自增序列耗尽事件计数
+     */
+    protected final LongAdder exhaustionCount = new LongAdder();
 
     public SnowFlakeGenerator() {
         Properties properties = createDefaultConfig();
@@ -121,10 +169,28 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
     private void initWithProperties(Properties properties) {
         parameterHelper.objectNotNull(properties, "Unexpected properties,it can't be null,or you can use SnowFlakeGenerator.createDefaultConfig.");
         this.identityLength = parameterHelper.integerFormatNotEmpty(IDENTITY_LENGTH.getDescription(), properties.get(IDENTITY_LENGTH), 1, 61);
-        this.identityVal = parameterHelper.longFormatNotEmpty(IDENTITY_VAL.getDescription(), properties.get(IDENTITY_VAL), 0L, (1L << this.identityLength) - 1L);
+        Object identityAllocatorTemp = properties.get(IDENTITY_ALLOCATOR);
+        if (properties.get(IDENTITY_VAL) == null && identityAllocatorTemp instanceof WorkerIdAllocator) {
+            // 未手动指定节点标识时，自动租用一个空闲的节点标识
+            this.identityVal = ((WorkerIdAllocator) identityAllocatorTemp).allocate(identityLength);
+        } else {
+            this.identityVal = parameterHelper.longFormatNotEmpty(IDENTITY_VAL.getDescription(), properties.get(IDENTITY_VAL), 0L, (1L << this.identityLength) - 1L);
+        }
         this.sequencePartLength = parameterHelper.integerFormatNotEmpty(SEQUENCE_PART_LENGTH.getDescription(), properties.get(SEQUENCE_PART_LENGTH), 1, 61);
         this.tsPartLength = CUSTOM_LENGTH - parameterHelper.integerFormat("identityLength + sequencePartLength", (identityLength + sequencePartLength), 2, 62);
         this.startTs = parameterHelper.longFormatNotEmpty(START_TS.getDescription(), properties.get(START_TS));
+        this.lockFree = parameterHelper.booleanFormatOfNullable(LOCK_FREE.getDescription(), properties.get(LOCK_FREE), false);
+        this.waitStrategy = parameterHelper.parseObjectOfNullable(WAIT_STRATEGY.getDescription(), properties.get(WAIT_STRATEGY), WaitStrategy.SPIN);
+        this.rollbackTolerance = waitStrategy == WaitStrategy.BORROW ? MAX_ROLLBACK_MS + MAX_BORROW_MS : MAX_ROLLBACK_MS;
+
+        Object clockTemp = properties.get(CLOCK);
+        if (clockTemp == null) {
+            this.clock = SystemHyggeClock.INSTANCE;
+        } else if (clockTemp instanceof HyggeClock) {
+            this.clock = (HyggeClock) clockTemp;
+        } else {
+            throw new UtilRuntimeException(String.format("Unexpected %s,it should implement HyggeClock.", CLOCK.getDescription()));
+        }
 
         // this.endTs = this.startTs + (2 ^ this.tsPartLength - 1);
         this.endTs = this.startTs + ~(-1L << this.tsPartLength);
@@ -149,12 +215,34 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
         result.put(IDENTITY_LENGTH, 5);
         result.put(IDENTITY_VAL, 0L);
         result.put(SEQUENCE_PART_LENGTH, 12);
+        result.put(LOCK_FREE, false);
+        result.put(WAIT_STRATEGY, WaitStrategy.SPIN);
+        result.put(CLOCK, SystemHyggeClock.INSTANCE);
         return result;
     }
 
     @Override
-    public synchronized long createKey() {
-        long currentTs = System.currentTimeMillis();
+    public long createKey() {
+        return lockFree ? createKeyByCas() : createKeyBySynchronized();
+    }
+
+    /**
+     * 批量生成 id，同一毫秒内的序列号会被一次性申领，每进入新的一毫秒才读取一次时间
+     *
+     * @param size 需要的 id 数量
+     * @return 严格递增的 id 数组
+     */
+    @Override
+    public long[] createKeys(int size) {
+        parameterHelper.integerFormat("size", size, 0, Integer.MAX_VALUE);
+        return lockFree ? createKeysByCas(size) : createKeysBySynchronized(size);
+    }
+
+    /**
+     * 基于对象锁生成 id
+     */
+    private synchronized long createKeyBySynchronized() {
+        long currentTs = clock.currentTimeMillis();
         // 当前时间已超过最大截止时间，说明 id 用尽了，无法再生成无重复 id
         if (currentTs > endTs) {
             throw new UtilRuntimeException(String.format("SnowFlakeGenerator exhaustion %s .", this));
@@ -162,11 +250,13 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
 
         if (lastTs > currentTs) {
             // 系统不定期与时间服务器通信同步时间，可能存在时间回滚
-            if (lastTs - currentTs <= 5L) {
-                // 回拨 5 毫秒以内，进行自旋等待到最后一次生成 id 时间，提高可用性
-                currentTs = blockTo(lastTs);
+            if (lastTs - currentTs <= rollbackTolerance) {
+                // 回拨在可容忍范围以内，等待到最后一次生成 id 时间，提高可用性
+                recordRollback();
+                currentTs = waitTo(lastTs);
             } else {
                 // 误差过大作为异常处理
+                rollbackCount.increment();
                 throw new UtilRuntimeException(String.format("SnowFlakeGenerator back in time,currentTs:%d lastTs:%d.", currentTs, lastTs));
             }
         }
@@ -176,9 +266,10 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
         if (currentTs == lastTs) {
             // 同毫秒内自增序列已耗尽
             if (sequence > sequencePartMaxVal) {
-                // 重置自增序列并至少阻塞的下一毫秒
+                // 重置自增序列并至少等待到下一毫秒
+                exhaustionCount.increment();
                 sequence = 0;
-                currentTs = blockTo(currentTs + 1L);
+                currentTs = waitTo(currentTs + 1L);
             }
             // 同毫秒内自增序列未耗尽直接生成 id
             result = calculateKey(currentTs - startTs);
@@ -197,19 +288,159 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
     }
 
     /**
-     * 自旋阻塞到目标时间戳
+     * 基于对象锁批量生成 id
+     */
+    private synchronized long[] createKeysBySynchronized(int size) {
+        long[] result = new long[size];
+        int index = 0;
+        while (index < size) {
+            // 由单个生成逻辑处理时间回滚、序列耗尽等情况，此后 lastTs 与 sequence 均已就绪
+            result[index++] = createKeyBySynchronized();
+
+            long tsPart = lastTs - startTs;
+            // 同毫秒内剩余的序列号直接分配，无需再次读取时间
+            while (index < size && sequence <= sequencePartMaxVal) {
+                result[index++] = calculateKey(tsPart);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 基于 CAS 批量生成 id
+     */
+    private long[] createKeysByCas(int size) {
+        long[] result = new long[size];
+        int index = 0;
+        while (index < size) {
+            long firstKey = claimKeysByCas(size - index);
+            int count = claimedCount(firstKey, size - index);
+            for (int i = 0; i < count; i++) {
+                result[index++] = firstKey + i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 基于 CAS 生成 id
+     */
+    private long createKeyByCas() {
+        return claimKeysByCas(1);
+    }
+
+    /**
+     * 基于 CAS 一次性申领同一毫秒内连续的多个 id
+     * <p>
+     * lastTs 与 sequence 被打包在 {@link SnowFlakeGenerator#lastKeyState} 中(即最后一次生成的 id 本身)，
+     * 新 id 总是由最后一次生成的 id 推导得出，CAS 成功即代表新 id 严格大于旧 id
+     *
+     * @param maxCount 期望申领的 id 数量
+     * @return 申领到的第一个 id，实际申领数量见 {@link SnowFlakeGenerator#claimedCount(long, int)}
+     */
+    private long claimKeysByCas(int maxCount) {
+        while (true) {
+            // 必须先读取状态再读取时间，否则读到的时间可能早于其他线程刚写入的状态，被误判为时间回滚
+            long lastKey = lastKeyState.get();
+            long currentTs = clock.currentTimeMillis();
+            // 当前时间已超过最大截止时间，说明 id 用尽了，无法再生成无重复 id
+            if (currentTs > endTs) {
+                throw new UtilRuntimeException(String.format("SnowFlakeGenerator exhaustion %s .", this));
+            }
+
+            long tsPart = currentTs - startTs;
+            long result;
+
+            if (lastKey == NONE_KEY) {
+                result = tsPart << tsShift | identityOrTarget;
+            } else {
+                long lastTsPart = lastKey >>> tsShift;
+
+                if (lastTsPart > tsPart) {
+                    // 系统不定期与时间服务器通信同步时间，可能存在时间回滚
+                    if (lastTsPart - tsPart > rollbackTolerance) {
+                        // 误差过大作为异常处理
+                        rollbackCount.increment();
+                        throw new UtilRuntimeException(String.format("SnowFlakeGenerator back in time,currentTs:%d lastTs:%d.", currentTs, lastTsPart + startTs));
+                    }
+                    // 回拨在可容忍范围以内，等待到最后一次生成 id 时间，提高可用性
+                    recordRollback();
+                    tsPart = waitTo(lastTsPart + startTs) - startTs;
+                }
+
+                if (lastTsPart == tsPart) {
+                    if ((lastKey & sequencePartMaxVal) == sequencePartMaxVal) {
+                        // 同毫秒内自增序列已耗尽，至少等待到下一毫秒
+                        exhaustionCount.increment();
+                        tsPart = waitTo(lastTsPart + 1L + startTs) - startTs;
+                        result = tsPart << tsShift | identityOrTarget;
+                    } else {
+                        // 同毫秒内自增序列未耗尽，直接在最后一次生成的 id 上自增
+                        result = lastKey + 1L;
+                    }
+                } else {
+                    // 时间戳发生变化时重置自增序列
+                    result = tsPart << tsShift | identityOrTarget;
+                }
+            }
+
+            if (lastKeyState.compareAndSet(lastKey, result + claimedCount(result, maxCount) - 1L)) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 计算从 firstKey 开始实际可申领的 id 数量，不会超出同一毫秒内剩余的序列号
+     */
+    private int claimedCount(long firstKey, int maxCount) {
+        long remaining = sequencePartMaxVal - (firstKey & sequencePartMaxVal) + 1L;
+        return (int) Math.min(maxCount, remaining);
+    }
+
+    /**
+     * 按照 {@link SnowFlakeGenerator#waitStrategy} 等待到目标时间戳
      *
      * @param targetTs 目标时间戳
-     * @return 阻塞结束对应的时间戳
+     * @return 可用于生成 id 的时间戳，一定大于等于 targetTs
      */
-    private long blockTo(long targetTs) {
-        long currentTs = System.currentTimeMillis();
-        while (currentTs <= targetTs) {
-            currentTs = System.currentTimeMillis();
+    protected long waitTo(long targetTs) {
+        if (waitStrategy == WaitStrategy.BORROW) {
+            // 直接借用未来时间，仅当借用超出上限时才挂起等待
+            waitUntil(targetTs - MAX_BORROW_MS);
+            return targetTs;
+        }
+        return waitUntil(targetTs);
+    }
+
+    /**
+     * 等待直到时钟到达目标时间戳
+     *
+     * @param targetTs 目标时间戳
+     * @return 等待结束对应的时间戳
+     */
+    private long waitUntil(long targetTs) {
+        long currentTs = clock.currentTimeMillis();
+        while (currentTs < targetTs) {
+            if (waitStrategy != WaitStrategy.SPIN) {
+                LockSupport.parkNanos((targetTs - currentTs) * 1000000L);
+            }
+            currentTs = clock.currentTimeMillis();
         }
         return currentTs;
     }
 
+    /**
+     * 记录一次可容忍的时间回拨
+     * <p>
+     * {@link WaitStrategy#BORROW} 模式下，最后一次生成 id 的时间本就可能领先于时钟，无法与真实的小幅回拨区分，因此不计数
+     */
+    protected void recordRollback() {
+        if (waitStrategy != WaitStrategy.BORROW) {
+            rollbackCount.increment();
+        }
+    }
+
     /**
      * 运算出一个 key
      */
@@ -223,11 +454,12 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
 
     @Override
     public String toString() {
-        return String.format("{\"startTs\":%s,\"endTs\":%s,\"identityVal\":%d,\"sequencePartLength\":%d}",
+        return String.format("{\"startTs\":%s,\"endTs\":%s,\"identityVal\":%d,\"sequencePartLength\":%d,\"lockFree\":%s}",
                 timeHelper.format(startTs, DateTimeFormatModeEnum.FULL_TRIM),
                 timeHelper.format(endTs, DateTimeFormatModeEnum.FULL_TRIM),
                 identityVal,
-                sequencePartLength
+                sequencePartLength,
+                lockFree
         );
     }
 
@@ -245,6 +477,20 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
         return endTs;
     }
 
+    /**
+     * 返回时间回拨事件次数(包括因回拨过大而抛出异常的次数)
+     */
+    public long getRollbackCount() {
+        return rollbackCount.sum();
+    }
+
+    /**
+     * 返回同毫秒内自增序列耗尽事件次数
+     */
+    public long getExhaustionCount() {
+        return exhaustionCount.sum();
+    }
+
     /**
      * 从 id 中解析出时间戳（相对时间戳）
      */
@@ -290,6 +536,39 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
          * 第一部分实际值
          */
         IDENTITY_VAL("identityVal"),
+        /**
+         * 是否启用基于 CAS 的无锁模式(可空，默认 false)
+         */
+        LOCK_FREE("lockFree"),
+        /**
+         * 自增序列部分中用于划分条带的位数(可空，仅 {@link StripedSnowFlakeGenerator} 生效)
+         */
+        STRIPE_LENGTH("stripeLength"),
+        /**
+         * 每个预分配 id 段的长度(可空，仅 {@link SegmentSnowFlakeGenerator} 生效)
+         */
+        SEGMENT_SIZE("segmentSize"),
+        /**
+         * 当前 id 段消耗到多少百分比时触发异步填充另一个 id 段(可空，仅 {@link SegmentSnowFlakeGenerator} 生效)
+         */
+        SEGMENT_REFILL_PERCENT("segmentRefillPercent"),
+        /**
+         * 异步填充 id 段的 {@link java.util.concurrent.Executor} 实例(可空，仅 {@link SegmentSnowFlakeGenerator} 生效，
+         * 默认使用所有实例共享的单个后台线程)
+         */
+        SEGMENT_REFILL_EXECUTOR("segmentRefillExecutor"),
+        /**
+         * 时钟 {@link HyggeClock} 实例(可空，默认 {@link SystemHyggeClock#INSTANCE})
+         */
+        CLOCK("clock"),
+        /**
+         * 等待策略 {@link WaitStrategy}(可空，默认 {@link WaitStrategy#SPIN})
+         */
+        WAIT_STRATEGY("waitStrategy"),
+        /**
+         * 节点标识自动分配器 {@link WorkerIdAllocator}(可空，仅在未指定 {@link ConfigKey#IDENTITY_VAL} 时生效，每个分配器只能供一个生成器使用)
+         */
+        IDENTITY_ALLOCATOR("identityAllocator"),
         ;
 
         private final String description;
@@ -302,4 +581,22 @@ public class SnowFlakeGenerator implements RandomUniqueGenerator {
             return description;
         }
     }
+
+    /**
+     * 时间回拨或同毫秒内自增序列耗尽时，等待时间推进的策略
+     */
+    public enum WaitStrategy {
+        /**
+         * 自旋等待，延迟最低但会占满一个 CPU 核心
+         */
+        SPIN,
+        /**
+         * 通过 {@link LockSupport#parkNanos(long)} 挂起等待，让出 CPU
+         */
+        PARK,
+        /**
+         * 直接借用未来的时间(最多 5 毫秒)，超出借用上限时挂起等待。生成 id 的时间部分可能略微领先于真实时间
+         */
+        BORROW,
+    }
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 雪花算法 id 的紧凑字符串编解码器
+ * <p>
+ * 两种字母表均按 ASCII 升序排列，因此 "定长" 编码结果的字典序与 id 数值大小一致，可直接作为字符串排序键。<br/>
+ * 编码方法支持直接写入调用方提供的 char[]、{@link StringBuilder}、{@link ByteBuffer}，不产生临时字符串。
+ * <br/>
+ * <br/>
+ * tip: 雪花算法 id 不会是负数，负数入参会被视为非法参数
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public enum SnowFlakeIdCodec {
+    /**
+     * base62 : 0-9A-Za-z
+     */
+    BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", false),
+    /**
+     * Crockford base32 : 排除了易混淆的 I L O U，解码时大小写不敏感，并将 I、L 视为 1，O 视为 0
+     */
+    CROCKFORD_BASE32("0123456789ABCDEFGHJKMNPQRSTVWXYZ", true),
+    ;
+
+    /**
+     * 非法字符在解码表中的标记值
+     */
+    private static final byte INVALID = -1;
+    /**
+     * 字母表
+     */
+    private final char[] alphabet;
+    /**
+     * 进制
+     */
+    private final int radix;
+    /**
+     * 字符 --> 数值 的解码表(仅 ASCII)
+     */
+    private final byte[] decodeTable;
+    /**
+     * 编码 {@link Long#MAX_VALUE} 所需的长度，即定长编码的长度
+     */
+    private final int fixedLength;
+
+    SnowFlakeIdCodec(String alphabet, boolean crockford) {
+        this.alphabet = alphabet.toCharArray();
+        this.radix = this.alphabet.length;
+        this.decodeTable = new byte[128];
+        Arrays.fill(decodeTable, INVALID);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            decodeTable[this.alphabet[i]] = (byte) i;
+        }
+        if (crockford) {
+            for (int i = 0; i < this.alphabet.length; i++) {
+                decodeTable[Character.toLowerCase(this.alphabet[i])] = (byte) i;
+            }
+            decodeTable['I'] = 1;
+            decodeTable['i'] = 1;
+            decodeTable['L'] = 1;
+            decodeTable['l'] = 1;
+            decodeTable['O'] = 0;
+            decodeTable['o'] = 0;
+        }
+        this.fixedLength = encodedLength(Long.MAX_VALUE);
+    }
+
+    /**
+     * 定长编码的长度，也是任意 id 编码后的最大长度
+     */
+    public int getFixedLength() {
+        return fixedLength;
+    }
+
+    /**
+     * 计算 id 紧凑编码后的长度
+     */
+    public int encodedLength(long id) {
+        checkId(id);
+        int length = 1;
+        long remaining = id / radix;
+        while (remaining > 0) {
+            length++;
+            remaining /= radix;
+        }
+        return length;
+    }
+
+    /**
+     * 紧凑编码为字符串
+     */
+    public String encode(long id) {
+        char[] result = new char[encodedLength(id)];
+        encode(id, result, 0);
+        return new String(result);
+    }
+
+    /**
+     * 紧凑编码并写入 target
+     *
+     * @param offset 写入起始下标
+     * @return 写入的字符数
+     */
+    public int encode(long id, char[] target, int offset) {
+        int length = encodedLength(id);
+        fill(id, target, offset, length);
+        return length;
+    }
+
+    /**
+     * 紧凑编码并追加到 target
+     *
+     * @return 追加的字符数
+     */
+    public int encode(long id, StringBuilder target) {
+        return appendTo(id, target, encodedLength(id));
+    }
+
+    /**
+     * 紧凑编码并以 ASCII 字节写入 target 当前位置
+     *
+     * @return 写入的字节数
+     */
+    public int encode(long id, ByteBuffer target) {
+        return putTo(id, target, encodedLength(id));
+    }
+
+    /**
+     * 定长(左侧补 '0')编码为字符串，字典序与 id 数值大小一致
+     */
+    public String encodeSortable(long id) {
+        char[] result = new char[fixedLength];
+        encodeSortable(id, result, 0);
+        return new String(result);
+    }
+
+    /**
+     * 定长(左侧补 '0')编码并写入 target，字典序与 id 数值大小一致
+     *
+     * @param offset 写入起始下标
+     * @return 写入的字符数，恒等于 {@link SnowFlakeIdCodec#getFixedLength()}
+     */
+    public int encodeSortable(long id, char[] target, int offset) {
+        checkId(id);
+        fill(id, target, offset, fixedLength);
+        return fixedLength;
+    }
+
+    /**
+     * 定长(左侧补 '0')编码并追加到 target，字典序与 id 数值大小一致
+     *
+     * @return 追加的字符数，恒等于 {@link SnowFlakeIdCodec#getFixedLength()}
+     */
+    public int encodeSortable(long id, StringBuilder target) {
+        checkId(id);
+        return appendTo(id, target, fixedLength);
+    }
+
+    /**
+     * 定长(左侧补 '0')编码并以 ASCII 字节写入 target 当前位置，字典序与 id 数值大小一致
+     *
+     * @return 写入的字节数，恒等于 {@link SnowFlakeIdCodec#getFixedLength()}
+     */
+    public int encodeSortable(long id, ByteBuffer target) {
+        checkId(id);
+        return putTo(id, target, fixedLength);
+    }
+
+    /**
+     * 解码(紧凑编码与定长编码均可)
+     */
+    public long decode(CharSequence source) {
+        if (source == null) {
+            throw new UtilRuntimeException(String.format("Unexpected %s value,it can't be null.", name()));
+        }
+        return decode(source, 0, source.length());
+    }
+
+    /**
+     * 解码 source 中 [start, end) 区间的字符
+     */
+    public long decode(CharSequence source, int start, int end) {
+        checkRange(source, start, end);
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = accumulate(result, source.charAt(i), source);
+        }
+        return result;
+    }
+
+    /**
+     * 解码 source 中 [offset, offset + length) 区间的字符
+     */
+    public long decode(char[] source, int offset, int length) {
+        if (length < 1 || length > fixedLength) {
+            throw new UtilRuntimeException(String.format("Unexpected %s value length(%d),it should be within [1,%d].", name(), length, fixedLength));
+        }
+        long result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            result = accumulate(result, source[i], null);
+        }
+        return result;
+    }
+
+    /**
+     * 解码 source 从当前位置开始的 length 个 ASCII 字节，解码后 source 的位置会后移 length
+     */
+    public long decode(ByteBuffer source, int length) {
+        if (length < 1 || length > fixedLength) {
+            throw new UtilRuntimeException(String.format("Unexpected %s value length(%d),it should be within [1,%d].", name(), length, fixedLength));
+        }
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            result = accumulate(result, (char) (source.get() & 0xFF), null);
+        }
+        return result;
+    }
+
+    private void fill(long id, char[] target, int offset, int length) {
+        long remaining = id;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            target[i] = alphabet[(int) (remaining % radix)];
+            remaining /= radix;
+        }
+    }
+
+    private int appendTo(long id, StringBuilder target, int length) {
+        int start = target.length();
+        target.setLength(start + length);
+        long remaining = id;
+        for (int i = start + length - 1; i >= start; i--) {
+            target.setCharAt(i, alphabet[(int) (remaining % radix)]);
+            remaining /= radix;
+        }
+        return length;
+    }
+
+    private int putTo(long id, ByteBuffer target, int length) {
+        int start = target.position();
+        long remaining = id;
+        for (int i = start + length - 1; i >= start; i--) {
+            target.put(i, (byte) alphabet[(int) (remaining % radix)]);
+            remaining /= radix;
+        }
+        target.position(start + length);
+        return length;
+    }
+
+    private long accumulate(long current, char item, CharSequence source) {
+        int value = item < 128 ? decodeTable[item] : INVALID;
+        if (value == INVALID) {
+            throw new UtilRuntimeException(String.format("Unexpected %s character(%s) in %s.", name(), item, source));
+        }
+        if (current > (Long.MAX_VALUE - value) / radix) {
+            throw new UtilRuntimeException(String.format("Unexpected %s value(%s),it is out of range.", name(), source));
+        }
+        return current * radix + value;
+    }
+
+    private void checkRange(CharSequence source, int start, int end) {
+        int length = end - start;
+        if (length < 1 || length > fixedLength) {
+            throw new UtilRuntimeException(String.format("Unexpected %s value(%s),its length should be within [1,%d].", name(), source, fixedLength));
+        }
+    }
+
+    private void checkId(long id) {
+        if (id < 0) {
+            throw new UtilRuntimeException(String.format("Unexpected id(%d),it can't be negative.", id));
+        }
+    }
+}
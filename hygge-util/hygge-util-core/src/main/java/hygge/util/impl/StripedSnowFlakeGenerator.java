@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import hygge.commons.constant.enums.DateTimeFormatModeEnum;
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static hygge.util.impl.SnowFlakeGenerator.ConfigKey.STRIPE_LENGTH;
+
+/**
+ * 条带化的雪花算法 id 生成器
+ * <p>
+ * 沿用 {@link SnowFlakeGenerator} 的位布局，并将自增序列部分再拆分为 (stripe + subSequence)
+ * <br/>0 - tsPart - identity - [stripe - subSequence]
+ * <br/>
+ * 线程按 id 固定映射到某个条带，不同条带各自维护状态，互不争用，因此不同条带生成的 id 天然不重复，
+ * {@link SnowFlakeGenerator#getWorkerIdFromId(long)}、{@link SnowFlakeGenerator#getSequenceFromId(long)} 依旧可以正常解析。
+ * <br/>
+ * <br/>
+ * tip: 仅保证同一线程内严格自增，需要跨线程严格自增请使用 {@link SnowFlakeGenerator}
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class StripedSnowFlakeGenerator extends SnowFlakeGenerator {
+    /**
+     * 条带尚未生成过 id 的标记值
+     */
+    private static final long NONE_KEY = -1L;
+    /**
+     * 每个条带状态在数组中占用的槽位数(64 字节)，避免不同条带状态落在同一缓存行上产生伪共享
+     */
+    private static final int PADDING = 8;
+    /**
+     * 条带 位数
+     */
+    private int stripeLength;
+    /**
+     * 条带 掩码
+     */
+    private int stripeMask;
+    /**
+     * 条带内自增序列部分 位数
+     */
+    private int subSequenceLength;
+    /**
+     * 条带内自增序列部分 最大值
+     */
+    private long subSequenceMaxVal;
+    /**
+     * 各个条带最后一次生成的 id (已经同时包含了 lastTs 与 sequence)
+     */
+    private AtomicLongArray stripeStates;
+
+    public StripedSnowFlakeGenerator() {
+        super();
+        initStripes(createDefaultConfig());
+    }
+
+    public StripedSnowFlakeGenerator(Properties properties) {
+        super(properties);
+        initStripes(properties);
+    }
+
+    private void initStripes(Properties properties) {
+        int defaultStripeLength = Math.min(32 - Integer.numberOfLeadingZeros(Runtime.getRuntime().availableProcessors() - 1) + 1, sequencePartLength - 1);
+        this.stripeLength = parameterHelper.integerFormatOfNullable(STRIPE_LENGTH.getDescription(), properties.get(STRIPE_LENGTH), defaultStripeLength);
+        parameterHelper.integerFormat(STRIPE_LENGTH.getDescription(), stripeLength, 0, Math.min(sequencePartLength - 1, 16));
+
+        this.stripeMask = ~(-1 << stripeLength);
+        this.subSequenceLength = sequencePartLength - stripeLength;
+        // 2 ^ this.subSequenceLength - 1;
+        this.subSequenceMaxVal = ~(-1L << subSequenceLength);
+
+        this.stripeStates = new AtomicLongArray((stripeMask + 1) * PADDING);
+        for (int i = 0; i <= stripeMask; i++) {
+            stripeStates.set(i * PADDING, NONE_KEY);
+        }
+    }
+
+    @Override
+    public long createKey() {
+        return claimKeys(currentStripe(), 1);
+    }
+
+    @Override
+    public long[] createKeys(int size) {
+        parameterHelper.integerFormat("size", size, 0, Integer.MAX_VALUE);
+
+        int stripe = currentStripe();
+        long[] result = new long[size];
+        int index = 0;
+        while (index < size) {
+            long firstKey = claimKeys(stripe, size - index);
+            int count = claimedCount(firstKey, size - index);
+            for (int i = 0; i < count; i++) {
+                result[index++] = firstKey + i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 当前线程对应的条带
+     */
+    private int currentStripe() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    /**
+     * 基于 CAS 在指定条带上一次性申领同一毫秒内连续的多个 id
+     *
+     * @param stripe   条带
+     * @param maxCount 期望申领的 id 数量
+     * @return 申领到的第一个 id，实际申领数量见 {@link StripedSnowFlakeGenerator#claimedCount(long, int)}
+     */
+    private long claimKeys(int stripe, int maxCount) {
+        int stateIndex = stripe * PADDING;
+        long stripeOrTarget = (long) stripe << subSequenceLength;
+
+        while (true) {
+            // 必须先读取状态再读取时间，否则读到的时间可能早于其他线程刚写入的状态，被误判为时间回滚
+            long lastKey = stripeStates.get(stateIndex);
+            long currentTs = clock.currentTimeMillis();
+            // 当前时间已超过最大截止时间，说明 id 用尽了，无法再生成无重复 id
+            if (currentTs > endTs) {
+                throw new UtilRuntimeException(String.format("StripedSnowFlakeGenerator exhaustion %s .", this));
+            }
+
+            long tsPart = currentTs - startTs;
+            long result;
+
+            if (lastKey == NONE_KEY) {
+                result = tsPart << tsShift | identityOrTarget | stripeOrTarget;
+            } else {
+                long lastTsPart = lastKey >>> tsShift;
+
+                if (lastTsPart > tsPart) {
+                    // 系统不定期与时间服务器通信同步时间，可能存在时间回滚
+                    if (lastTsPart - tsPart > rollbackTolerance) {
+                        // 误差过大作为异常处理
+                        rollbackCount.increment();
+                        throw new UtilRuntimeException(String.format("StripedSnowFlakeGenerator back in time,currentTs:%d lastTs:%d.", currentTs, lastTsPart + startTs));
+                    }
+                    // 回拨在可容忍范围以内，等待到最后一次生成 id 时间，提高可用性
+                    recordRollback();
+                    tsPart = waitTo(lastTsPart + startTs) - startTs;
+                }
+
+                if (lastTsPart == tsPart) {
+                    if ((lastKey & subSequenceMaxVal) == subSequenceMaxVal) {
+                        // 同毫秒内条带自增序列已耗尽，至少等待到下一毫秒
+                        exhaustionCount.increment();
+                        tsPart = waitTo(lastTsPart + 1L + startTs) - startTs;
+                        result = tsPart << tsShift | identityOrTarget | stripeOrTarget;
+                    } else {
+                        result = lastKey + 1L;
+                    }
+                } else {
+                    // 时间戳发生变化时重置条带自增序列
+                    result = tsPart << tsShift | identityOrTarget | stripeOrTarget;
+                }
+            }
+
+            if (stripeStates.compareAndSet(stateIndex, lastKey, result + claimedCount(result, maxCount) - 1L)) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 计算从 firstKey 开始实际可申领的 id 数量，不会超出同一毫秒内条带剩余的序列号
+     */
+    private int claimedCount(long firstKey, int maxCount) {
+        long remaining = subSequenceMaxVal - (firstKey & subSequenceMaxVal) + 1L;
+        return (int) Math.min(maxCount, remaining);
+    }
+
+    /**
+     * 从 id 中解析出条带
+     */
+    public long getStripeFromId(long id) {
+        return (id >>> subSequenceLength) & stripeMask;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{\"startTs\":%s,\"endTs\":%s,\"sequencePartLength\":%d,\"stripeLength\":%d}",
+                timeHelper.format(startTs, DateTimeFormatModeEnum.FULL_TRIM),
+                timeHelper.format(endTs, DateTimeFormatModeEnum.FULL_TRIM),
+                sequencePartLength,
+                stripeLength
+        );
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.util.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.util.definition.WorkerIdLeaseStore;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 雪花算法 id 生成器节点标识(workerId)自动分配器
+ * <p>
+ * 从 {@link WorkerIdLeaseStore} 中租用一个空闲的 workerId，之后由后台线程定时续约，并在 JVM 关闭时自动释放。
+ * 通过 {@link SnowFlakeGenerator.ConfigKey#IDENTITY_ALLOCATOR} 传给 {@link SnowFlakeGenerator} 即可替代手动指定
+ * {@link SnowFlakeGenerator.ConfigKey#IDENTITY_VAL}
+ * <p>
+ * 续约线程与 JVM 关闭时的释放钩子在创建分配器时登记一次，反复 allocate/release 不会重复创建；
+ * 不再使用时调用 {@link WorkerIdAllocator#shutdown()} 释放租约、关闭续约线程并撤销钩子。
+ * 同一时刻一个分配器只持有一个 workerId，只能供一个 {@link SnowFlakeGenerator} 使用，多个生成器需要各自的分配器。
+ * 续约失败不会中断后续心跳，但会通过 {@link WorkerIdAllocator#getConsecutiveRenewFailures()}、
+ * {@link WorkerIdAllocator#getLastRenewFailure()} 与 {@link WorkerIdAllocator#setRenewFailureListener(BiConsumer)} 对外暴露，
+ * 持续失败意味着租约可能已过期，workerId 可能被其他实例租走
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class WorkerIdAllocator {
+    /**
+     * 默认单次分配最多尝试的候选 workerId 数量
+     */
+    public static final int DEFAULT_MAX_SCAN_COUNT = 1024;
+    /**
+     * 租约存储
+     */
+    private final WorkerIdLeaseStore leaseStore;
+    /**
+     * 续约间隔(毫秒)
+     */
+    private final long heartbeatMillis;
+    /**
+     * 单次分配最多尝试的候选 workerId 数量，避免 identityLength 较大时逐个扫描 2 ^ identityLength 个候选值
+     */
+    private final int maxScanCount;
+    /**
+     * 负责续约的后台线程，随分配器创建，空闲时不占用线程
+     */
+    private final ScheduledThreadPoolExecutor heartbeatExecutor;
+    /**
+     * 连续续约失败次数，续约成功或重新分配时清零
+     */
+    private final AtomicInteger consecutiveRenewFailures = new AtomicInteger();
+    /**
+     * 已分配的 workerId，尚未分配时为 -1
+     */
+    private volatile long workerId = -1L;
+    /**
+     * 最近一次续约失败的异常，续约成功或重新分配时清空
+     */
+    private volatile RuntimeException lastRenewFailure;
+    /**
+     * 续约失败回调，入参为 workerId 与失败原因
+     */
+    private volatile BiConsumer<Long, RuntimeException> renewFailureListener;
+    /**
+     * 当前租约的续约任务
+     */
+    private ScheduledFuture<?> heartbeatFuture;
+    /**
+     * JVM 关闭时释放租约的钩子
+     */
+    private final Thread shutdownHook;
+    /**
+     * 是否已调用 {@link WorkerIdAllocator#shutdown()}
+     */
+    private boolean shutdown;
+
+    public WorkerIdAllocator(WorkerIdLeaseStore leaseStore) {
+        this(leaseStore, 10000L);
+    }
+
+    public WorkerIdAllocator(WorkerIdLeaseStore leaseStore, long heartbeatMillis) {
+        this(leaseStore, heartbeatMillis, DEFAULT_MAX_SCAN_COUNT);
+    }
+
+    /**
+     * @param leaseStore      租约存储
+     * @param heartbeatMillis 续约间隔(毫秒)
+     * @param maxScanCount    单次分配最多尝试的候选 workerId 数量
+     */
+    public WorkerIdAllocator(WorkerIdLeaseStore leaseStore, long heartbeatMillis, int maxScanCount) {
+        if (leaseStore == null) {
+            throw new UtilRuntimeException("Unexpected leaseStore,it can't be null.");
+        }
+        if (heartbeatMillis < 1L) {
+            throw new UtilRuntimeException(String.format("Unexpected heartbeatMillis(%d),it should be greater than 0.", heartbeatMillis));
+        }
+        if (maxScanCount < 1) {
+            throw new UtilRuntimeException(String.format("Unexpected maxScanCount(%d),it should be greater than 0.", maxScanCount));
+        }
+        this.leaseStore = leaseStore;
+        this.heartbeatMillis = heartbeatMillis;
+        this.maxScanCount = maxScanCount;
+        this.heartbeatExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "hygge-worker-id-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatExecutor.setRemoveOnCancelPolicy(true);
+        // 释放后没有续约任务时回收线程
+        heartbeatExecutor.setKeepAliveTime(heartbeatMillis, TimeUnit.MILLISECONDS);
+        heartbeatExecutor.allowCoreThreadTimeOut(true);
+        this.shutdownHook = new Thread(this::release, "hygge-worker-id-release");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * 租用一个空闲的 workerId
+     * <p>
+     * 已持有 workerId 时再次调用会抛出异常，避免多个生成器共用同一个 workerId 生成重复 id，需要重新租用请先调用
+     * {@link WorkerIdAllocator#release()}
+     *
+     * @param identityLength 节点标识位位数，决定了 workerId 的取值范围 [0, 2 ^ identityLength - 1]
+     * @return 租用到的 workerId
+     * @throws UtilRuntimeException 已持有 workerId、已关闭，或前 maxScanCount 个候选 workerId 都已被占用时
+     */
+    public synchronized long allocate(int identityLength) {
+        if (shutdown) {
+            throw new UtilRuntimeException("WorkerIdAllocator has been shut down.");
+        }
+        if (workerId >= 0) {
+            throw new UtilRuntimeException(String.format("WorkerIdAllocator already leased workerId(%d),it can only serve one generator at a time.", workerId));
+        }
+        if (identityLength < 1 || identityLength > 61) {
+            throw new UtilRuntimeException(String.format("Unexpected identityLength(%d),it should be within [1,61].", identityLength));
+        }
+        // 2 ^ identityLength - 1;
+        long identityMaxVal = ~(-1L << identityLength);
+        long scanMaxVal = Math.min(identityMaxVal, maxScanCount - 1L);
+        for (long candidate = 0; candidate <= scanMaxVal; candidate++) {
+            if (leaseStore.tryAcquire(candidate)) {
+                this.workerId = candidate;
+                startHeartbeat();
+                return candidate;
+            }
+        }
+        throw new UtilRuntimeException(String.format("WorkerIdAllocator exhaustion,all %d candidate workerId were leased.", scanMaxVal + 1));
+    }
+
+    /**
+     * 停止续约并释放已租用的 workerId
+     */
+    public synchronized void release() {
+        if (workerId < 0) {
+            return;
+        }
+        heartbeatFuture.cancel(false);
+        heartbeatFuture = null;
+        leaseStore.release(workerId);
+        workerId = -1L;
+    }
+
+    /**
+     * 释放已租用的 workerId，关闭续约线程并撤销 JVM 关闭钩子，之后不能再分配，重复调用无影响
+     */
+    public synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        this.shutdown = true;
+        release();
+        heartbeatExecutor.shutdownNow();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignored) {
+            // JVM 正在关闭，钩子会自行执行 release()，重复释放无影响
+        }
+    }
+
+    /**
+     * 返回已分配的 workerId，尚未分配时为 -1
+     */
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * 连续续约失败次数，0 表示最近一次续约成功(或尚未续约)
+     */
+    public int getConsecutiveRenewFailures() {
+        return consecutiveRenewFailures.get();
+    }
+
+    /**
+     * 最近一次续约失败的异常，最近一次续约成功时为 null
+     */
+    public RuntimeException getLastRenewFailure() {
+        return lastRenewFailure;
+    }
+
+    /**
+     * 设置续约失败回调，回调在续约线程中执行，其抛出的异常会被忽略
+     *
+     * @param renewFailureListener 入参为 workerId 与失败原因
+     */
+    public void setRenewFailureListener(BiConsumer<Long, RuntimeException> renewFailureListener) {
+        this.renewFailureListener = renewFailureListener;
+    }
+
+    private void startHeartbeat() {
+        long target = workerId;
+        consecutiveRenewFailures.set(0);
+        lastRenewFailure = null;
+        // 续约失败不能中断调度，否则后续心跳全部停止
+        this.heartbeatFuture = heartbeatExecutor.scheduleWithFixedDelay(() -> renew(target), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(long target) {
+        try {
+            leaseStore.renew(target);
+            consecutiveRenewFailures.set(0);
+            lastRenewFailure = null;
+        } catch (RuntimeException e) {
+            lastRenewFailure = e;
+            consecutiveRenewFailures.incrementAndGet();
+            BiConsumer<Long, RuntimeException> listener = renewFailureListener;
+            if (listener == null) {
+                return;
+            }
+            try {
+                listener.accept(target, e);
+            } catch (RuntimeException ignored) {
+                // 回调异常不影响下一次续约
+            }
+        }
+    }
+}
@@ -54,19 +54,11 @@ public enum UtilCreator implements UtilCreatorAbility, InfoMessageSupplier, Alte
 
     /**
      * 先从 {@link UtilCreator#singletonObjects} 里根据 cacheKey 取，如果没取到则通过构造方法获取实例，并将该实例缓存到 {@link UtilCreator#singletonObjects}
+     * <p>
+     * 同一个 cacheKey 只会构造一次，不同 cacheKey 的构造互不阻塞
      */
     private static <H extends HyggeUtil> H getAndCacheInstance(String cacheKey, Supplier<H> constructor) {
-        H result = (H) singletonObjects.getValue(cacheKey);
-        if (result == null) {
-            synchronized (singletonObjects) {
-                result = (H) singletonObjects.getValue(cacheKey);
-                if (result == null) {
-                    result = constructor.get();
-                    singletonObjects.saveValue(cacheKey, result);
-                }
-            }
-        }
-        return result;
+        return (H) singletonObjects.get(cacheKey, key -> constructor.get());
     }
 
     @Override
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.bo;
+
+import hygge.commons.constant.enums.ColumnTypeEnum;
+import hygge.commons.exception.UtilRuntimeException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量校验结果的列式存储，可直接用于 JDBC addBatch 逐行绑定
+ * <p>
+ * 每个属性一列，按 {@link ColumnTypeEnum} 使用对应的基本类型数组(byte[]/short[]/int[]/long[]/float[]/double[]/boolean[])，
+ * STRING 与 BIG_DECIMAL 分别使用 String[] 与 BigDecimal[]，其余类型使用 Object[]；
+ * 值为 null 或键不存在时记录在该列的 null 位图中，基本类型数组对应位置保持默认值。
+ * <p>
+ * 只有全部属性都校验通过的行才会写入，未通过的行及其全部错误见 {@link ColumnBatch#getErrors()}
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public final class ColumnBatch {
+    private final ColumnPlan plan;
+    private final Object[] columns;
+    private final long[][] nullBitmaps;
+    /**
+     * 每个有效行在原始数据列表中的下标
+     */
+    private final int[] sourceRowIndexes;
+    private final List<ColumnBatchRowError> errors;
+    private int rowCount;
+
+    ColumnBatch(ColumnPlan plan, int capacity) {
+        int columnSize = plan.size();
+        this.plan = plan;
+        this.columns = new Object[columnSize];
+        this.nullBitmaps = new long[columnSize][(capacity + 63) >>> 6];
+        for (int i = 0; i < columnSize; i++) {
+            columns[i] = newColumn(plan.getColumnType(i), capacity);
+        }
+        this.sourceRowIndexes = new int[capacity];
+        this.errors = new ArrayList<>();
+    }
+
+    /**
+     * 按原始顺序拼接多个分块的校验结果，用于分块并行校验后的汇总
+     *
+     * @param batches 同一个 {@link ColumnPlan} 产生的分块结果
+     */
+    public static ColumnBatch concat(List<ColumnBatch> batches) {
+        if (batches == null || batches.isEmpty()) {
+            throw new UtilRuntimeException("Unexpected batches, it can't be empty.");
+        }
+        ColumnPlan plan = batches.get(0).plan;
+        int capacity = 0;
+        for (ColumnBatch batch : batches) {
+            if (batch.plan != plan) {
+                throw new UtilRuntimeException("Unexpected batches, they must be produced by the same ColumnPlan.");
+            }
+            capacity += batch.rowCount;
+        }
+
+        ColumnBatch result = new ColumnBatch(plan, capacity);
+        for (ColumnBatch batch : batches) {
+            int offset = result.rowCount;
+            for (int column = 0; column < result.columns.length; column++) {
+                System.arraycopy(batch.columns[column], 0, result.columns[column], offset, batch.rowCount);
+                for (int row = 0; row < batch.rowCount; row++) {
+                    if (batch.isNull(column, row)) {
+                        result.markNull(column, offset + row);
+                    }
+                }
+            }
+            System.arraycopy(batch.sourceRowIndexes, 0, result.sourceRowIndexes, offset, batch.rowCount);
+            result.rowCount += batch.rowCount;
+            result.errors.addAll(batch.errors);
+        }
+        return result;
+    }
+
+    /**
+     * 写入一个全部属性均已校验通过的行
+     *
+     * @param sourceRowIndex 行在原始数据列表中的下标
+     * @param values         按属性顺序排列的属性规范值
+     */
+    void appendRow(int sourceRowIndex, Object[] values) {
+        int row = rowCount;
+        for (int column = 0; column < values.length; column++) {
+            Object value = values[column];
+            if (value == null) {
+                markNull(column, row);
+                continue;
+            }
+            switch (plan.getColumnType(column)) {
+                case BYTE:
+                    ((byte[]) columns[column])[row] = (Byte) value;
+                    break;
+                case SHORT:
+                    ((short[]) columns[column])[row] = (Short) value;
+                    break;
+                case INTEGER:
+                    ((int[]) columns[column])[row] = (Integer) value;
+                    break;
+                case LONG:
+                    ((long[]) columns[column])[row] = (Long) value;
+                    break;
+                case FLOAT:
+                    ((float[]) columns[column])[row] = (Float) value;
+                    break;
+                case DOUBLE:
+                    ((double[]) columns[column])[row] = (Double) value;
+                    break;
+                case BOOLEAN:
+                    ((boolean[]) columns[column])[row] = (Boolean) value;
+                    break;
+                default:
+                    ((Object[]) columns[column])[row] = value;
+            }
+        }
+        sourceRowIndexes[row] = sourceRowIndex;
+        rowCount++;
+    }
+
+    void addError(ColumnBatchRowError error) {
+        errors.add(error);
+    }
+
+    private void markNull(int column, int row) {
+        nullBitmaps[column][row >>> 6] |= 1L << row;
+    }
+
+    private static Object newColumn(ColumnTypeEnum columnType, int capacity) {
+        switch (columnType) {
+            case BYTE:
+                return new byte[capacity];
+            case SHORT:
+                return new short[capacity];
+            case INTEGER:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case FLOAT:
+                return new float[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            case BOOLEAN:
+                return new boolean[capacity];
+            case STRING:
+                return new String[capacity];
+            case BIG_DECIMAL:
+                return new BigDecimal[capacity];
+            default:
+                return new Object[capacity];
+        }
+    }
+
+    /**
+     * 属性值是否为 null(包括键不存在)
+     */
+    public boolean isNull(int column, int row) {
+        return (nullBitmaps[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * 以对象形式读取单个属性值，为 null 时返回 null，适用于 PreparedStatement#setObject 等通用绑定
+     */
+    public Object getObject(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+        Object columnArray = columns[column];
+        switch (plan.getColumnType(column)) {
+            case BYTE:
+                return ((byte[]) columnArray)[row];
+            case SHORT:
+                return ((short[]) columnArray)[row];
+            case INTEGER:
+                return ((int[]) columnArray)[row];
+            case LONG:
+                return ((long[]) columnArray)[row];
+            case FLOAT:
+                return ((float[]) columnArray)[row];
+            case DOUBLE:
+                return ((double[]) columnArray)[row];
+            case BOOLEAN:
+                return ((boolean[]) columnArray)[row];
+            default:
+                return ((Object[]) columnArray)[row];
+        }
+    }
+
+    /**
+     * 按数据库中的实际名称查找列下标，不存在时返回 -1
+     */
+    public int getColumnIndex(String columnNameInDatabase) {
+        for (int i = 0; i < columns.length; i++) {
+            if (plan.getColumnNameInDatabase(i).equals(columnNameInDatabase)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public byte[] getByteColumn(int column) {
+        return (byte[]) columns[column];
+    }
+
+    public short[] getShortColumn(int column) {
+        return (short[]) columns[column];
+    }
+
+    public int[] getIntColumn(int column) {
+        return (int[]) columns[column];
+    }
+
+    public long[] getLongColumn(int column) {
+        return (long[]) columns[column];
+    }
+
+    public float[] getFloatColumn(int column) {
+        return (float[]) columns[column];
+    }
+
+    public double[] getDoubleColumn(int column) {
+        return (double[]) columns[column];
+    }
+
+    public boolean[] getBooleanColumn(int column) {
+        return (boolean[]) columns[column];
+    }
+
+    public String[] getStringColumn(int column) {
+        return (String[]) columns[column];
+    }
+
+    public BigDecimal[] getBigDecimalColumn(int column) {
+        return (BigDecimal[]) columns[column];
+    }
+
+    public Object[] getObjectColumn(int column) {
+        return (Object[]) columns[column];
+    }
+
+    public ColumnPlan getPlan() {
+        return plan;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * 有效行数量，各列数组中只有前 rowCount 个位置有效
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getSourceRowIndex(int row) {
+        return sourceRowIndexes[row];
+    }
+
+    public int[] getSourceRowIndexes() {
+        return Arrays.copyOf(sourceRowIndexes, rowCount);
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public List<ColumnBatchRowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.bo;
+
+import java.util.List;
+
+/**
+ * 批量校验中单行数据的全部错误
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class ColumnBatchRowError {
+    /**
+     * 行在原始数据列表中的下标
+     */
+    private final int rowIndex;
+    /**
+     * 该行全部不符合预期的提示信息，按属性顺序排列
+     */
+    private final List<String> messages;
+
+    public ColumnBatchRowError(int rowIndex, List<String> messages) {
+        this.rowIndex = rowIndex;
+        this.messages = messages;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return "row " + rowIndex + ": " + String.join("; ", messages);
+    }
+}
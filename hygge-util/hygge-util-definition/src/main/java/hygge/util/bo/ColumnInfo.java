@@ -24,6 +24,7 @@ import hygge.util.definition.ParameterHelper;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.function.UnaryOperator;
 
 /**
  * DAO 操作的属性信息
@@ -74,6 +75,10 @@ public class ColumnInfo {
      * 用于约束 BigDecimal，其他类型非必须
      */
     private RoundingMode roundingMode;
+    /**
+     * {@link ColumnInfo#checkAndGetColumn(Object)} 首次调用时编译并缓存的校验函数，修改属性信息时失效
+     */
+    private volatile CompiledChecker compiledChecker;
 
     public ColumnInfo(boolean keyNullable, boolean valueNullable, String columnName, String columnNameInDatabase, Byte min, Byte max) {
         init(columnName, columnNameInDatabase, ColumnTypeEnum.BYTE, keyNullable, valueNullable, min, max);
@@ -121,6 +126,7 @@ public class ColumnInfo {
      */
     public ColumnInfo toBooleanColumn() {
         this.columnTypeEnum = ColumnTypeEnum.BOOLEAN;
+        this.compiledChecker = null;
         return this;
     }
 
@@ -135,6 +141,7 @@ public class ColumnInfo {
         this.columnTypeEnum = ColumnTypeEnum.STRING;
         this.min = minLength;
         this.max = maxLength;
+        this.compiledChecker = null;
         return this;
     }
 
@@ -165,82 +172,131 @@ public class ColumnInfo {
      * @return 属性规范值
      */
     public Object checkAndGetColumn(Object target) {
-        Object result;
+        CompiledChecker current = compiledChecker;
+        // 首次调用或属性信息、ParameterHelper 实例被修改后重新编译
+        if (current == null || current.helper != parameterHelper) {
+            current = new CompiledChecker(parameterHelper, compileChecker());
+            this.compiledChecker = current;
+        }
+        return current.checker.apply(target);
+    }
+
+    /**
+     * 将当前属性信息编译为校验函数，{@link ColumnInfo#checkAndGetColumn(Object)} 执行的即是缓存的编译结果
+     * <p>
+     * 类型分支、上下限的拆箱及 {@link ParameterHelper} 实例均在编译时确定，之后修改当前属性信息不会影响已编译的函数
+     *
+     * @return 入参为待检测对象、返回属性规范值的校验函数
+     */
+    public UnaryOperator<Object> compileChecker() {
+        ParameterHelper helper = parameterHelper;
+        String name = columnName;
         if (valueNullable) {
-            // 允许为空
             switch (columnTypeEnum) {
-                case STRING:
-                    result = parameterHelper.string(columnName, target, min.intValue(), max.intValue());
-                    break;
-                case BYTE:
-                    result = parameterHelper.byteFormat(columnName, target, min.byteValue(), max.byteValue());
-                    break;
-                case SHORT:
-                    result = parameterHelper.shortFormat(columnName, target, min.shortValue(), max.shortValue());
-                    break;
-                case INTEGER:
-                    result = parameterHelper.integerFormat(columnName, target, min.intValue(), max.intValue());
-                    break;
-                case LONG:
-                    result = parameterHelper.longFormat(columnName, target, min.longValue(), max.longValue());
-                    break;
-                case FLOAT:
-                    result = parameterHelper.floatFormat(columnName, target, min.floatValue(), max.floatValue());
-                    break;
-                case DOUBLE:
-                    result = parameterHelper.doubleFormat(columnName, target, min.doubleValue(), max.doubleValue());
-                    break;
-                case BIG_DECIMAL:
-                    result = parameterHelper.bigDecimalFormat(columnName, target, scale, roundingMode, (BigDecimal) min, (BigDecimal) max);
-                    break;
+                case STRING: {
+                    int minValue = min.intValue();
+                    int maxValue = max.intValue();
+                    return target -> helper.string(name, target, minValue, maxValue);
+                }
+                case BYTE: {
+                    byte minValue = min.byteValue();
+                    byte maxValue = max.byteValue();
+                    return target -> helper.byteFormat(name, target, minValue, maxValue);
+                }
+                case SHORT: {
+                    short minValue = min.shortValue();
+                    short maxValue = max.shortValue();
+                    return target -> helper.shortFormat(name, target, minValue, maxValue);
+                }
+                case INTEGER: {
+                    int minValue = min.intValue();
+                    int maxValue = max.intValue();
+                    return target -> helper.integerFormat(name, target, minValue, maxValue);
+                }
+                case LONG: {
+                    long minValue = min.longValue();
+                    long maxValue = max.longValue();
+                    return target -> helper.longFormat(name, target, minValue, maxValue);
+                }
+                case FLOAT: {
+                    float minValue = min.floatValue();
+                    float maxValue = max.floatValue();
+                    return target -> helper.floatFormat(name, target, minValue, maxValue);
+                }
+                case DOUBLE: {
+                    double minValue = min.doubleValue();
+                    double maxValue = max.doubleValue();
+                    return target -> helper.doubleFormat(name, target, minValue, maxValue);
+                }
+                case BIG_DECIMAL: {
+                    int scaleValue = scale;
+                    RoundingMode roundingModeValue = roundingMode;
+                    BigDecimal minValue = (BigDecimal) min;
+                    BigDecimal maxValue = (BigDecimal) max;
+                    return target -> helper.bigDecimalFormat(name, target, scaleValue, roundingModeValue, minValue, maxValue);
+                }
                 case BOOLEAN:
-                    result = parameterHelper.booleanFormat(columnName, target);
-                    break;
+                    return target -> helper.booleanFormat(name, target);
                 case OTHER_OBJECT:
-                    result = target;
-                    break;
+                    return UnaryOperator.identity();
                 default:
                     throw new UtilRuntimeException(String.format("Unexpected ColumnInfo:%s,it should be STRING,BYTE,SHORT,INTEGER,FLOAT,DOUBLE,BOOLEAN.", columnTypeEnum));
             }
         } else {
-            // 不允许为空
             switch (columnTypeEnum) {
-                case STRING:
-                    result = parameterHelper.stringNotEmpty(columnName, target, min.intValue(), max.intValue());
-                    break;
-                case BYTE:
-                    result = parameterHelper.byteFormatNotEmpty(columnName, target, min.byteValue(), max.byteValue());
-                    break;
-                case SHORT:
-                    result = parameterHelper.shortFormatNotEmpty(columnName, target, min.shortValue(), max.shortValue());
-                    break;
-                case INTEGER:
-                    result = parameterHelper.integerFormatNotEmpty(columnName, target, min.intValue(), max.intValue());
-                    break;
-                case LONG:
-                    result = parameterHelper.longFormatNotEmpty(columnName, target, min.longValue(), max.longValue());
-                    break;
-                case FLOAT:
-                    result = parameterHelper.floatFormatNotEmpty(columnName, target, min.floatValue(), max.floatValue());
-                    break;
-                case DOUBLE:
-                    result = parameterHelper.doubleFormatNotEmpty(columnName, target, min.doubleValue(), max.doubleValue());
-                    break;
+                case STRING: {
+                    int minValue = min.intValue();
+                    int maxValue = max.intValue();
+                    return target -> helper.stringNotEmpty(name, target, minValue, maxValue);
+                }
+                case BYTE: {
+                    byte minValue = min.byteValue();
+                    byte maxValue = max.byteValue();
+                    return target -> helper.byteFormatNotEmpty(name, target, minValue, maxValue);
+                }
+                case SHORT: {
+                    short minValue = min.shortValue();
+                    short maxValue = max.shortValue();
+                    return target -> helper.shortFormatNotEmpty(name, target, minValue, maxValue);
+                }
+                case INTEGER: {
+                    int minValue = min.intValue();
+                    int maxValue = max.intValue();
+                    return target -> helper.integerFormatNotEmpty(name, target, minValue, maxValue);
+                }
+                case LONG: {
+                    long minValue = min.longValue();
+                    long maxValue = max.longValue();
+                    return target -> helper.longFormatNotEmpty(name, target, minValue, maxValue);
+                }
+                case FLOAT: {
+                    float minValue = min.floatValue();
+                    float maxValue = max.floatValue();
+                    return target -> helper.floatFormatNotEmpty(name, target, minValue, maxValue);
+                }
+                case DOUBLE: {
+                    double minValue = min.doubleValue();
+                    double maxValue = max.doubleValue();
+                    return target -> helper.doubleFormatNotEmpty(name, target, minValue, maxValue);
+                }
                 case BOOLEAN:
-                    result = parameterHelper.booleanFormatNotEmpty(columnName, target);
-                    break;
-                case BIG_DECIMAL:
-                    result = parameterHelper.bigDecimalFormatNotEmpty(columnName, target, scale, roundingMode, (BigDecimal) min, (BigDecimal) max);
-                    break;
+                    return target -> helper.booleanFormatNotEmpty(name, target);
+                case BIG_DECIMAL: {
+                    int scaleValue = scale;
+                    RoundingMode roundingModeValue = roundingMode;
+                    BigDecimal minValue = (BigDecimal) min;
+                    BigDecimal maxValue = (BigDecimal) max;
+                    return target -> helper.bigDecimalFormatNotEmpty(name, target, scaleValue, roundingModeValue, minValue, maxValue);
+                }
                 case OTHER_OBJECT:
-                    parameterHelper.objectNotNull(columnName, target);
-                    result = target;
-                    break;
+                    return target -> {
+                        helper.objectNotNull(name, target);
+                        return target;
+                    };
                 default:
                     throw new UtilRuntimeException(String.format("Unexpected ColumnInfo:%s,it should be STRING,BYTE,SHORT,INTEGER,LONG,FLOAT,DOUBLE,BOOLEAN.", columnTypeEnum));
             }
         }
-        return result;
     }
 
     public static ParameterHelper getParameterHelper() {
@@ -257,6 +313,7 @@ public class ColumnInfo {
 
     public void setColumnName(String columnName) {
         this.columnName = columnName;
+        this.compiledChecker = null;
     }
 
     public String getColumnNameInDatabase() {
@@ -273,6 +330,7 @@ public class ColumnInfo {
 
     public void setColumnTypeEnum(ColumnTypeEnum columnTypeEnum) {
         this.columnTypeEnum = columnTypeEnum;
+        this.compiledChecker = null;
     }
 
     public boolean isKeyNullable() {
@@ -289,6 +347,7 @@ public class ColumnInfo {
 
     public void setValueNullable(boolean valueNullable) {
         this.valueNullable = valueNullable;
+        this.compiledChecker = null;
     }
 
     public Object getDefaultValue() {
@@ -305,6 +364,7 @@ public class ColumnInfo {
 
     public void setMin(Number min) {
         this.min = min;
+        this.compiledChecker = null;
     }
 
     public Number getMax() {
@@ -313,5 +373,19 @@ public class ColumnInfo {
 
     public void setMax(Number max) {
         this.max = max;
+        this.compiledChecker = null;
+    }
+
+    /**
+     * 已编译的校验函数及编译时使用的 {@link ParameterHelper} 实例
+     */
+    private static final class CompiledChecker {
+        private final ParameterHelper helper;
+        private final UnaryOperator<Object> checker;
+
+        private CompiledChecker(ParameterHelper helper, UnaryOperator<Object> checker) {
+            this.helper = helper;
+            this.checker = checker;
+        }
     }
 }
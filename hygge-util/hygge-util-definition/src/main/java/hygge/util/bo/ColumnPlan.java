@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.bo;
+
+import hygge.commons.constant.enums.ColumnTypeEnum;
+import hygge.commons.exception.ParameterRuntimeException;
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.commons.exception.main.HyggeRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 由一组 {@link ColumnInfo} 编译得到的不可变属性校验计划
+ * <p>
+ * 编译时一次性确定每个属性的校验函数、数据库中的实际名称与结果容器容量，
+ * 之后每次校验只需顺序遍历数组，不再重复解释 {@link ColumnInfo} 元数据；可在多线程间共享
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public final class ColumnPlan {
+    private final String[] columnNames;
+    private final String[] columnNamesInDatabase;
+    private final boolean[] keyNullable;
+    private final ColumnTypeEnum[] columnTypes;
+    private final UnaryOperator<Object>[] checkers;
+    /**
+     * 结果 HashMap 的初始容量，保证装满全部属性也不会扩容
+     */
+    private final int resultCapacity;
+    /**
+     * 一个有效属性都没有时的异常提示信息
+     */
+    private final String insufficientColumnMessage;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ColumnPlan(Collection<ColumnInfo> columnInfoCollection) {
+        int size = columnInfoCollection.size();
+        this.columnNames = new String[size];
+        this.columnNamesInDatabase = new String[size];
+        this.keyNullable = new boolean[size];
+        this.columnTypes = new ColumnTypeEnum[size];
+        this.checkers = new UnaryOperator[size];
+
+        StringBuilder msg = new StringBuilder();
+        int index = 0;
+        for (ColumnInfo columnInfo : columnInfoCollection) {
+            columnNames[index] = columnInfo.getColumnName();
+            columnNamesInDatabase[index] = columnInfo.getColumnNameInDatabase();
+            keyNullable[index] = columnInfo.isKeyNullable();
+            columnTypes[index] = columnInfo.getColumnTypeEnum();
+            checkers[index] = columnInfo.compileChecker();
+            msg.append(columnInfo.getColumnName());
+            msg.append(",");
+            index++;
+        }
+        if (msg.length() > 0) {
+            msg.deleteCharAt(msg.length() - 1);
+        }
+        this.resultCapacity = (int) (size / 0.75F) + 1;
+        this.insufficientColumnMessage = String.format("Insufficient valid attribute values,they can be %s.", msg);
+    }
+
+    /**
+     * 编译属性校验计划
+     *
+     * @param columnInfoCollection 属性信息(不可为空)
+     */
+    public static ColumnPlan compile(Collection<ColumnInfo> columnInfoCollection) {
+        if (columnInfoCollection == null || columnInfoCollection.isEmpty()) {
+            throw new UtilRuntimeException("Unexpected columnInfoCollection, it can't be empty.");
+        }
+        return new ColumnPlan(columnInfoCollection);
+    }
+
+    /**
+     * 按计划筛选出有效属性并生成新的 Map 结构，结果与
+     * {@link hygge.util.definition.DaoHelper#filterOutTheFinalColumns(Map, Collection)} 一致
+     *
+     * @param rawData 原始数据
+     * @return 以数据库中实际名称为键的有效属性
+     */
+    public HashMap<String, Object> apply(Map<String, Object> rawData) {
+        HashMap<String, Object> result = new HashMap<>(resultCapacity);
+        for (int i = 0; i < checkers.length; i++) {
+            String columnName = columnNames[i];
+            Object value = rawData.get(columnName);
+            // 值为 null 时才需要区分"键不存在"与"值为 null"
+            if (value != null || rawData.containsKey(columnName)) {
+                result.put(columnNamesInDatabase[i], checkers[i].apply(value));
+            } else if (!keyNullable[i]) {
+                throw new ParameterRuntimeException("Unexpected " + columnName + ", it can't be null.");
+            }
+        }
+
+        if (result.isEmpty()) {
+            throw new ParameterRuntimeException(insufficientColumnMessage);
+        }
+        return result;
+    }
+
+    /**
+     * 批量校验全部行，见 {@link ColumnPlan#applyBatch(List, int, int)}
+     *
+     * @param rawDataList 原始数据列表
+     * @return 列式校验结果
+     */
+    public ColumnBatch applyBatch(List<Map<String, Object>> rawDataList) {
+        return applyBatch(rawDataList, 0, rawDataList.size());
+    }
+
+    /**
+     * 批量校验原始数据列表中 [from, to) 范围内的行，不会为每行创建 HashMap
+     * <p>
+     * 单行校验不会因首个错误中止，而是收集该行全部属性的错误后跳过该行；
+     * 结果中的行下标均为原始列表中的下标，因此可将列表分块并行校验后用 {@link ColumnBatch#concat(List)} 汇总
+     *
+     * @param rawDataList 原始数据列表
+     * @param from        起始行下标(包含)
+     * @param to          结束行下标(不包含)
+     * @return 列式校验结果
+     */
+    public ColumnBatch applyBatch(List<Map<String, Object>> rawDataList, int from, int to) {
+        ColumnBatch result = new ColumnBatch(this, Math.max(to - from, 0));
+        Object[] rowValues = new Object[checkers.length];
+        for (int rowIndex = from; rowIndex < to; rowIndex++) {
+            Map<String, Object> rawData = rawDataList.get(rowIndex);
+            if (rawData == null) {
+                result.addError(new ColumnBatchRowError(rowIndex, singletonMessage("Unexpected rawData, it can't be null.")));
+                continue;
+            }
+
+            List<String> messages = null;
+            boolean anyColumnExist = false;
+            for (int i = 0; i < checkers.length; i++) {
+                String columnName = columnNames[i];
+                Object value = rawData.get(columnName);
+                rowValues[i] = null;
+                if (value != null || rawData.containsKey(columnName)) {
+                    anyColumnExist = true;
+                    try {
+                        rowValues[i] = checkers[i].apply(value);
+                    } catch (HyggeRuntimeException e) {
+                        messages = addMessage(messages, e.getMessage());
+                    }
+                } else if (!keyNullable[i]) {
+                    messages = addMessage(messages, "Unexpected " + columnName + ", it can't be null.");
+                }
+            }
+            if (messages == null && !anyColumnExist) {
+                messages = singletonMessage(insufficientColumnMessage);
+            }
+
+            if (messages == null) {
+                result.appendRow(rowIndex, rowValues);
+            } else {
+                result.addError(new ColumnBatchRowError(rowIndex, messages));
+            }
+        }
+        return result;
+    }
+
+    private static List<String> addMessage(List<String> messages, String message) {
+        List<String> result = messages == null ? new ArrayList<>(2) : messages;
+        result.add(message);
+        return result;
+    }
+
+    private static List<String> singletonMessage(String message) {
+        return addMessage(null, message);
+    }
+
+    public int size() {
+        return checkers.length;
+    }
+
+    public String getColumnName(int index) {
+        return columnNames[index];
+    }
+
+    public String getColumnNameInDatabase(int index) {
+        return columnNamesInDatabase[index];
+    }
+
+    public boolean isKeyNullable(int index) {
+        return keyNullable[index];
+    }
+
+    public ColumnTypeEnum getColumnType(int index) {
+        return columnTypes[index];
+    }
+
+    public UnaryOperator<Object> getChecker(int index) {
+        return checkers[index];
+    }
+
+    public int getResultCapacity() {
+        return resultCapacity;
+    }
+
+    public String getInsufficientColumnMessage() {
+        return insufficientColumnMessage;
+    }
+}
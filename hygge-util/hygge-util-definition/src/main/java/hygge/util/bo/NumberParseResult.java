@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.bo;
+
+import hygge.commons.constant.enums.NumberParseStatusEnum;
+
+import java.math.BigDecimal;
+
+/**
+ * 不抛出异常的数字解析结果，可在同一线程内重复使用以避免分配
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class NumberParseResult {
+    /**
+     * 解析状态
+     */
+    private NumberParseStatusEnum status = NumberParseStatusEnum.EMPTY;
+    /**
+     * 整数解析结果，{@link NumberParseStatusEnum#OUT_OF_RANGE} 时也会保留实际解析出的值
+     */
+    private long longValue;
+    /**
+     * BigDecimal 解析结果
+     */
+    private BigDecimal bigDecimalValue;
+    /**
+     * 解析失败时出错字符的下标，成功时为 -1
+     */
+    private int errorIndex = -1;
+
+    public NumberParseStatusEnum success(long value) {
+        this.status = NumberParseStatusEnum.SUCCESS;
+        this.longValue = value;
+        this.bigDecimalValue = null;
+        this.errorIndex = -1;
+        return status;
+    }
+
+    public NumberParseStatusEnum success(BigDecimal value) {
+        this.status = NumberParseStatusEnum.SUCCESS;
+        this.longValue = 0L;
+        this.bigDecimalValue = value;
+        this.errorIndex = -1;
+        return status;
+    }
+
+    public NumberParseStatusEnum fail(NumberParseStatusEnum status, int errorIndex) {
+        this.status = status;
+        this.errorIndex = errorIndex;
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return status == NumberParseStatusEnum.SUCCESS;
+    }
+
+    public NumberParseStatusEnum getStatus() {
+        return status;
+    }
+
+    public long getLongValue() {
+        return longValue;
+    }
+
+    public int getIntValue() {
+        return (int) longValue;
+    }
+
+    public BigDecimal getBigDecimalValue() {
+        return bigDecimalValue;
+    }
+
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+}
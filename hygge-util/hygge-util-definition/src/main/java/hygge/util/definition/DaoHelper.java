@@ -17,10 +17,13 @@
 package hygge.util.definition;
 
 
+import hygge.util.bo.ColumnBatch;
 import hygge.util.bo.ColumnInfo;
+import hygge.util.bo.ColumnPlan;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 
@@ -50,4 +53,50 @@ public interface DaoHelper extends HyggeUtil {
      * @return 筛选过后的新 Map,不会为 null
      */
     HashMap<String, Object> filterOutTheFinalColumns(Map<String, Object> rawData, Collection<ColumnInfo> checkInfoCollection, UnaryOperator<HashMap<String, Object>> successCallBack);
+
+    /**
+     * 将属性信息编译为可重复使用的属性校验计划，热点路径应缓存该计划并调用
+     * {@link DaoHelper#filterOutTheFinalColumns(Map, ColumnPlan)}
+     *
+     * @param checkInfoCollection 属性信息
+     * @return 属性校验计划
+     */
+    ColumnPlan compileColumnPlan(Collection<ColumnInfo> checkInfoCollection);
+
+    /**
+     * 根据预先编译的属性校验计划，筛选出有效属性并生成新的 Map 结构(用于非全量更新)
+     *
+     * @param rawData    原始数据
+     * @param columnPlan 属性校验计划
+     * @return 筛选过后的新 Map,不会为 null
+     */
+    HashMap<String, Object> filterOutTheFinalColumns(Map<String, Object> rawData, ColumnPlan columnPlan);
+
+    /**
+     * 根据预先编译的属性校验计划，筛选出有效属性并生成新的 Map 结构(用于非全量更新)
+     *
+     * @param rawData         原始数据
+     * @param columnPlan      属性校验计划
+     * @param successCallBack 成功筛选出有效属性时的回调函数
+     * @return 筛选过后的新 Map,不会为 null
+     */
+    HashMap<String, Object> filterOutTheFinalColumns(Map<String, Object> rawData, ColumnPlan columnPlan, UnaryOperator<HashMap<String, Object>> successCallBack);
+
+    /**
+     * 批量筛选有效属性并以列式结构返回(用于批量插入)，每行的错误会被汇总而不会在首个错误处中止
+     *
+     * @param rawDataList         原始数据列表
+     * @param checkInfoCollection 属性信息
+     * @return 列式校验结果,不会为 null
+     */
+    ColumnBatch filterOutTheFinalColumnsInBatch(List<Map<String, Object>> rawDataList, Collection<ColumnInfo> checkInfoCollection);
+
+    /**
+     * 根据预先编译的属性校验计划，批量筛选有效属性并以列式结构返回(用于批量插入)，每行的错误会被汇总而不会在首个错误处中止
+     *
+     * @param rawDataList 原始数据列表
+     * @param columnPlan  属性校验计划
+     * @return 列式校验结果,不会为 null
+     */
+    ColumnBatch filterOutTheFinalColumnsInBatch(List<Map<String, Object>> rawDataList, ColumnPlan columnPlan);
 }
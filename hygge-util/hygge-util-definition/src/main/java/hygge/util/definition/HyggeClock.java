@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.definition;
+
+/**
+ * 时钟
+ * <p>
+ * 将 "获取当前时间" 抽象出来，以便替换为缓存时钟等开销更低的实现
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface HyggeClock {
+    /**
+     * 返回当前 UTC 毫秒级时间戳
+     *
+     * @return 当前 UTC 毫秒级时间戳
+     */
+    long currentTimeMillis();
+}
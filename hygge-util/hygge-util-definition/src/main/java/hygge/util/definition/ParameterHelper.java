@@ -16,15 +16,19 @@
 
 package hygge.util.definition;
 
+import hygge.commons.constant.enums.NumberParseStatusEnum;
 import hygge.commons.constant.enums.StringFormatModeEnum;
 import hygge.commons.exception.ParameterRuntimeException;
 import hygge.commons.exception.UtilRuntimeException;
 import hygge.commons.template.definition.InfoMessageSupplier;
+import hygge.util.bo.NumberParseResult;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 参数校验工具类
@@ -55,6 +59,17 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
         throw new ParameterRuntimeException(errorMessage, throwable);
     }
 
+    /**
+     * 延迟构造异常提示信息的异常处理函数，只有真正触发非预期事件时才会调用 errorMessageSupplier
+     *
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者
+     * @param throwable            触发非预期事件的异常(可能为空)
+     * @throws ParameterRuntimeException 参数非预期异常
+     */
+    default void hookUnexpectedEventLazily(Supplier<String> errorMessageSupplier, Throwable throwable) {
+        hookUnexpectedEvent(errorMessageSupplier.get(), throwable);
+    }
+
     /**
      * 验证目标不可为 null<br/>
      * 目标对象为 null 则触发非预期事件
@@ -63,7 +78,10 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @param target     目标对象
      */
     default void objectNotNull(String targetName, Object target) {
-        objectNotNull(target, "Unexpected " + targetName + ", it can't be null.");
+        // 仅在校验失败时构造默认异常信息，并交给 objectNotNull(Object, String) 处理
+        if (target == null) {
+            objectNotNull(target, "Unexpected " + targetName + ", it can't be null.");
+        }
     }
 
     /**
@@ -220,7 +238,10 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @param target     被验证的目标
      */
     default void notEmpty(String targetName, Object target) {
-        notEmpty(target, "Unexpected " + targetName + ", it can't be empty.");
+        // 仅在校验失败时构造默认异常信息，并交给 notEmpty(Object, String) 处理
+        if (isEmpty(target)) {
+            notEmpty(target, "Unexpected " + targetName + ", it can't be empty.");
+        }
     }
 
     /**
@@ -268,6 +289,9 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
 
     /**
      * Integer 相关方法，处理返回结果的钩子函数
+     * <p>
+     * 返回 int 的方法经由 {@link ParameterHelper#hookIntValue(int)} 处理，其默认实现会委托给当前方法，
+     * 因此只覆写当前方法即可同时作用于两类方法
      *
      * @param resultTemp 原定返回结果
      * @return 最终返回结果
@@ -278,6 +302,9 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
 
     /**
      * Long 相关方法，处理返回结果的钩子函数
+     * <p>
+     * 返回 long 的方法经由 {@link ParameterHelper#hookLongValue(long)} 处理，其默认实现会委托给当前方法，
+     * 因此只覆写当前方法即可同时作用于两类方法
      *
      * @param resultTemp 原定返回结果
      * @return 最终返回结果
@@ -286,6 +313,32 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
         return resultTemp;
     }
 
+    /**
+     * 返回 int 的相关方法，处理返回结果的钩子函数
+     * <p>
+     * 默认委托给 {@link ParameterHelper#hookInteger(Integer)}，与返回 Integer 的方法保持一致；
+     * 对装箱敏感的实现可以同时覆写两者，使当前方法不再经过装箱
+     *
+     * @param resultTemp 原定返回结果
+     * @return 最终返回结果
+     */
+    default int hookIntValue(int resultTemp) {
+        return hookInteger(resultTemp);
+    }
+
+    /**
+     * 返回 long 的相关方法，处理返回结果的钩子函数
+     * <p>
+     * 默认委托给 {@link ParameterHelper#hookLong(Long)}，与返回 Long 的方法保持一致；
+     * 对装箱敏感的实现可以同时覆写两者，使当前方法不再经过装箱
+     *
+     * @param resultTemp 原定返回结果
+     * @return 最终返回结果
+     */
+    default long hookLongValue(long resultTemp) {
+        return hookLong(resultTemp);
+    }
+
     /**
      * Float 相关方法，处理返回结果的钩子函数
      *
@@ -1068,13 +1121,16 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
     /**
      * 默认的 Byte 转化函数<br/>
      * PS:目标对象为 null 或空字符串将转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseByteLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseByte(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Byte parseByte(String targetName, Object target) {
-        return parseByte(target, unexpectedObject("value", target, targetName, Byte.class.getSimpleName()));
+        return parseByteLazily(target, () -> unexpectedObject("value", target, targetName, Byte.class.getSimpleName()));
     }
 
     /**
@@ -1087,6 +1143,21 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Byte parseByte(Object target, String errorMessage) {
+        return parseByteLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Byte 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseByte(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Byte parseByteLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
@@ -1101,7 +1172,7 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
                 result = Byte.valueOf(target.toString());
             }
         } catch (NumberFormatException e) {
-            hookUnexpectedEvent(errorMessage, e);
+            hookUnexpectedEventLazily(errorMessageSupplier, e);
         }
         return result;
     }
@@ -1110,13 +1181,16 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * 默认的 Short 转化函数<br/>
      * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
      * 目标对象将被转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseShortLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseShort(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Short parseShort(String targetName, Object target) {
-        return parseShort(target, unexpectedObject("value", target, targetName, Short.class.getSimpleName()));
+        return parseShortLazily(target, () -> unexpectedObject("value", target, targetName, Short.class.getSimpleName()));
     }
 
     /**
@@ -1129,6 +1203,21 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Short parseShort(Object target, String errorMessage) {
+        return parseShortLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Short 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseShort(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Short parseShortLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
@@ -1143,7 +1232,7 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
                 result = Short.valueOf(target.toString());
             }
         } catch (NumberFormatException e) {
-            hookUnexpectedEvent(errorMessage, e);
+            hookUnexpectedEventLazily(errorMessageSupplier, e);
         }
         return result;
     }
@@ -1152,13 +1241,16 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * 默认的 Integer 转化函数<br/>
      * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
      * 目标对象将被转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseIntegerLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseInteger(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Integer parseInteger(String targetName, Object target) {
-        return parseInteger(target, unexpectedObject("value", target, targetName, Integer.class.getSimpleName()));
+        return parseIntegerLazily(target, () -> unexpectedObject("value", target, targetName, Integer.class.getSimpleName()));
     }
 
     /**
@@ -1171,36 +1263,54 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Integer parseInteger(Object target, String errorMessage) {
+        return parseIntegerLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Integer 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseInteger(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Integer parseIntegerLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
 
-        Integer result = null;
-        try {
-            if (target instanceof Integer) {
-                result = (Integer) target;
-            } else if (target instanceof Number) {
-                result = ((Number) target).intValue();
-            } else {
-                result = Integer.valueOf(target.toString());
-            }
-        } catch (NumberFormatException e) {
-            hookUnexpectedEvent(errorMessage, e);
+        if (target instanceof Integer) {
+            return (Integer) target;
+        } else if (target instanceof Number) {
+            return ((Number) target).intValue();
         }
-        return result;
+
+        CharSequence text = target instanceof CharSequence ? (CharSequence) target : target.toString();
+        NumberParseResult parseResult = new NumberParseResult();
+        if (tryParseInt(text, 0, text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, parseResult) != NumberParseStatusEnum.SUCCESS) {
+            hookUnexpectedEventLazily(errorMessageSupplier, null);
+            return null;
+        }
+        return parseResult.getIntValue();
     }
 
     /**
      * 默认的 Long 转化函数<br/>
      * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
      * 目标对象将被转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseLongLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseLong(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Long parseLong(String targetName, Object target) {
-        return parseLong(target, unexpectedObject("value", target, targetName, Long.class.getSimpleName()));
+        return parseLongLazily(target, () -> unexpectedObject("value", target, targetName, Long.class.getSimpleName()));
     }
 
     /**
@@ -1213,36 +1323,54 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Long parseLong(Object target, String errorMessage) {
+        return parseLongLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Long 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseLong(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Long parseLongLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
 
-        Long result = null;
-        try {
-            if (target instanceof Long) {
-                result = (Long) target;
-            } else if (target instanceof Number) {
-                result = ((Number) target).longValue();
-            } else {
-                result = Long.valueOf(target.toString());
-            }
-        } catch (NumberFormatException e) {
-            hookUnexpectedEvent(errorMessage, e);
+        if (target instanceof Long) {
+            return (Long) target;
+        } else if (target instanceof Number) {
+            return ((Number) target).longValue();
         }
-        return result;
+
+        CharSequence text = target instanceof CharSequence ? (CharSequence) target : target.toString();
+        NumberParseResult parseResult = new NumberParseResult();
+        if (tryParseLong(text, 0, text.length(), Long.MIN_VALUE, Long.MAX_VALUE, parseResult) != NumberParseStatusEnum.SUCCESS) {
+            hookUnexpectedEventLazily(errorMessageSupplier, null);
+            return null;
+        }
+        return parseResult.getLongValue();
     }
 
     /**
      * 默认的 Float 转化函数<br/>
      * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
      * 目标对象将被转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseFloatLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseFloat(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Float parseFloat(String targetName, Object target) {
-        return parseFloat(target, unexpectedObject("value", target, targetName, Float.class.getSimpleName()));
+        return parseFloatLazily(target, () -> unexpectedObject("value", target, targetName, Float.class.getSimpleName()));
     }
 
     /**
@@ -1255,6 +1383,21 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Float parseFloat(Object target, String errorMessage) {
+        return parseFloatLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Float 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseFloat(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Float parseFloatLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
@@ -1269,7 +1412,7 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
                 result = Float.valueOf(target.toString());
             }
         } catch (NumberFormatException e) {
-            hookUnexpectedEvent(errorMessage, e);
+            hookUnexpectedEventLazily(errorMessageSupplier, e);
         }
         return result;
     }
@@ -1278,13 +1421,16 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * 默认的 Double 转化函数<br/>
      * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
      * 目标对象将被转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseDoubleLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseDouble(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Double parseDouble(String targetName, Object target) {
-        return parseDouble(target, unexpectedObject("value", target, targetName, Double.class.getSimpleName()));
+        return parseDoubleLazily(target, () -> unexpectedObject("value", target, targetName, Double.class.getSimpleName()));
     }
 
     /**
@@ -1297,6 +1443,21 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Double parseDouble(Object target, String errorMessage) {
+        return parseDoubleLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Double 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseDouble(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Double parseDoubleLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
@@ -1311,7 +1472,7 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
                 result = Double.valueOf(target.toString());
             }
         } catch (NumberFormatException e) {
-            hookUnexpectedEvent(errorMessage, e);
+            hookUnexpectedEventLazily(errorMessageSupplier, e);
         }
         return result;
     }
@@ -1320,13 +1481,16 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * 默认的 BigDecimal 转化函数<br/>
      * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
      * 目标对象将被转化为 null
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseBigDecimalLazily(Object, int, RoundingMode, Supplier)} 完成，不经过 {@link ParameterHelper#parseBigDecimal(Object, int, RoundingMode, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default BigDecimal parseBigDecimal(String targetName, Object target, int scale, RoundingMode roundingMode) {
-        return parseBigDecimal(target, scale, roundingMode, unexpectedObject("value", target, targetName, BigDecimal.class.getSimpleName()));
+        return parseBigDecimalLazily(target, scale, roundingMode, () -> unexpectedObject("value", target, targetName, BigDecimal.class.getSimpleName()));
     }
 
     /**
@@ -1339,6 +1503,21 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default BigDecimal parseBigDecimal(Object target, int scale, RoundingMode roundingMode, String errorMessage) {
+        return parseBigDecimalLazily(target, scale, roundingMode, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 BigDecimal 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * {@link ParameterHelper#parseBigDecimal(Object, int, RoundingMode, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default BigDecimal parseBigDecimalLazily(Object target, int scale, RoundingMode roundingMode, Supplier<String> errorMessageSupplier) {
         if (isEmpty(target)) {
             return null;
         }
@@ -1349,17 +1528,19 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
         }
 
         if (target instanceof String) {
-            try {
-                result = new BigDecimal((String) target).setScale(scale, roundingMode);
-            } catch (NumberFormatException e) {
-                hookUnexpectedEvent(errorMessage, e);
+            String text = (String) target;
+            NumberParseResult parseResult = new NumberParseResult();
+            if (tryParseBigDecimal(text, 0, text.length(), parseResult) == NumberParseStatusEnum.SUCCESS) {
+                result = parseResult.getBigDecimalValue().setScale(scale, roundingMode);
+            } else {
+                hookUnexpectedEventLazily(errorMessageSupplier, null);
             }
         } else if (target instanceof Integer) {
             result = new BigDecimal((Integer) target).setScale(scale, roundingMode);
         } else if (target instanceof Long) {
             result = new BigDecimal((Long) target).setScale(scale, roundingMode);
         } else {
-            hookUnexpectedEvent(errorMessage, new UtilRuntimeException("To avoid loss of precision, \"parseBigDecimal()\" only allows BigDecimal/String/Integer/Long instances as input parameters."));
+            hookUnexpectedEventLazily(errorMessageSupplier, new UtilRuntimeException("To avoid loss of precision, \"parseBigDecimal()\" only allows BigDecimal/String/Integer/Long instances as input parameters."));
         }
         return result;
     }
@@ -1380,13 +1561,16 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * "FALSE"<br/>
      * <p>
      * 其余内容被视为不符合预期
+     * <p>
+     * 默认异常信息只在转换失败时才构造：转换由 {@link ParameterHelper#parseBooleanLazily(Object, Supplier)} 完成，不经过 {@link ParameterHelper#parseBoolean(Object, String)}，
+     * 定制转换或失败处理请重写前者或 {@link ParameterHelper#hookUnexpectedEvent(String, Throwable)}
      *
      * @param targetName 目标对象名称
      * @param target     目标对象
      * @return 转化后的数据
      */
     default Boolean parseBoolean(String targetName, Object target) {
-        return parseBoolean(target, unexpectedObject("value", target, targetName, "[\"0\",\"1\",\"false\",\"true\",\"FALSE\",\"TRUE\"]"));
+        return parseBooleanLazily(target, () -> unexpectedObject("value", target, targetName, "[\"0\",\"1\",\"false\",\"true\",\"FALSE\",\"TRUE\"]"));
     }
 
     /**
@@ -1411,6 +1595,33 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
      * @return 转化后的数据
      */
     default Boolean parseBoolean(Object target, String errorMessage) {
+        return parseBooleanLazily(target, () -> errorMessage);
+    }
+
+    /**
+     * 默认的 Boolean 转化函数<br/>
+     * 如果目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true<br/>
+     * 目标对象将被转化为 null
+     * <p>
+     * 下列内容被视为 true：<br/>
+     * "1"<br/>
+     * "true"<br/>
+     * "TRUE"<br/>
+     * <p>
+     * 下列内容被视为 false：<br/>
+     * "0"<br/>
+     * "false"<br/>
+     * "FALSE"<br/>
+     * <p>
+     * 其余内容被视为不符合预期
+     * <p>
+     * {@link ParameterHelper#parseBoolean(Object, String)} 与按目标对象名称转换的重载均委托给该方法
+     *
+     * @param target               目标对象
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据
+     */
+    default Boolean parseBooleanLazily(Object target, Supplier<String> errorMessageSupplier) {
         if (target instanceof Boolean) {
             return (Boolean) target;
         }
@@ -1434,11 +1645,324 @@ public interface ParameterHelper extends HyggeUtil, InfoMessageSupplier {
                 result = Boolean.FALSE;
                 break;
             default:
-                hookUnexpectedEvent(errorMessage, null);
+                hookUnexpectedEventLazily(errorMessageSupplier, null);
         }
         return result;
     }
 
+    /**
+     * 不装箱的 int 转化函数，目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true 时返回 defaultValue<br/>
+     * 文本内容由 {@link ParameterHelper#tryParseInt(CharSequence, int, int, int, int, NumberParseResult)} 解析，非法输入不会产生异常对象
+     *
+     * @param target               目标对象
+     * @param defaultValue         目标对象为空时的默认值
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据，触发非预期事件且未抛出异常时返回 defaultValue
+     */
+    default int parseIntValue(Object target, int defaultValue, Supplier<String> errorMessageSupplier) {
+        if (isEmpty(target)) {
+            return defaultValue;
+        }
+        if (target instanceof Number) {
+            return ((Number) target).intValue();
+        }
+
+        CharSequence text = target instanceof CharSequence ? (CharSequence) target : target.toString();
+        NumberParseResult parseResult = new NumberParseResult();
+        if (tryParseInt(text, 0, text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, parseResult) != NumberParseStatusEnum.SUCCESS) {
+            hookUnexpectedEventLazily(errorMessageSupplier, null);
+            return defaultValue;
+        }
+        return parseResult.getIntValue();
+    }
+
+    /**
+     * 不装箱的 long 转化函数，目标对象满足 {@link ParameterHelper#isEmpty(Object)} == true 时返回 defaultValue<br/>
+     * 文本内容由 {@link ParameterHelper#tryParseLong(CharSequence, int, int, long, long, NumberParseResult)} 解析，非法输入不会产生异常对象
+     *
+     * @param target               目标对象
+     * @param defaultValue         目标对象为空时的默认值
+     * @param errorMessageSupplier 不符合预期时的完整异常提示信息提供者，仅在触发非预期事件时调用
+     * @return 转化后的数据，触发非预期事件且未抛出异常时返回 defaultValue
+     */
+    default long parseLongValue(Object target, long defaultValue, Supplier<String> errorMessageSupplier) {
+        if (isEmpty(target)) {
+            return defaultValue;
+        }
+        if (target instanceof Number) {
+            return ((Number) target).longValue();
+        }
+
+        CharSequence text = target instanceof CharSequence ? (CharSequence) target : target.toString();
+        NumberParseResult parseResult = new NumberParseResult();
+        if (tryParseLong(text, 0, text.length(), Long.MIN_VALUE, Long.MAX_VALUE, parseResult) != NumberParseStatusEnum.SUCCESS) {
+            hookUnexpectedEventLazily(errorMessageSupplier, null);
+            return defaultValue;
+        }
+        return parseResult.getLongValue();
+    }
+
+    /**
+     * 不抛出异常地从文本片段 [from, to) 中解析 int，溢出与范围在同一次扫描中校验<br/>
+     * 格式与 {@link Integer#parseInt(String)} 一致：可选的 '+'/'-' 符号后跟至少一位十进制数字，不允许空白字符
+     *
+     * @param text   待解析文本
+     * @param from   起始下标(包含)
+     * @param to     结束下标(不包含)
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @param result 接收解析结果，可重复使用
+     * @return 解析状态
+     */
+    default NumberParseStatusEnum tryParseInt(CharSequence text, int from, int to, int min, int max, NumberParseResult result) {
+        if (tryParseLong(text, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, result) == NumberParseStatusEnum.OUT_OF_RANGE) {
+            return result.fail(NumberParseStatusEnum.OVERFLOW, from);
+        }
+        if (result.isSuccess() && (result.getLongValue() < min || result.getLongValue() > max)) {
+            return result.fail(NumberParseStatusEnum.OUT_OF_RANGE, from);
+        }
+        return result.getStatus();
+    }
+
+    /**
+     * 不抛出异常地从文本片段 [from, to) 中解析 long，溢出与范围在同一次扫描中校验<br/>
+     * 格式与 {@link Long#parseLong(String)} 一致：可选的 '+'/'-' 符号后跟至少一位十进制数字，不允许空白字符
+     *
+     * @param text   待解析文本
+     * @param from   起始下标(包含)
+     * @param to     结束下标(不包含)
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @param result 接收解析结果，可重复使用
+     * @return 解析状态
+     */
+    default NumberParseStatusEnum tryParseLong(CharSequence text, int from, int to, long min, long max, NumberParseResult result) {
+        if (text == null || from >= to) {
+            return result.fail(NumberParseStatusEnum.EMPTY, from);
+        }
+
+        int index = from;
+        boolean negative = false;
+        char first = text.charAt(index);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            } else if (first != '+') {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+            if (++index == to) {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+        }
+
+        // 与 JDK 一致以负数累加，使 Long.MIN_VALUE 也能被表示
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long accumulator = 0;
+        for (; index < to; index++) {
+            char current = text.charAt(index);
+            int digit = current - '0';
+            if (digit < 0 || digit > 9) {
+                digit = current < 128 ? -1 : Character.digit(current, 10);
+                if (digit < 0) {
+                    return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+                }
+            }
+            if (accumulator < multiplyLimit) {
+                return result.fail(NumberParseStatusEnum.OVERFLOW, index);
+            }
+            accumulator *= 10;
+            if (accumulator < limit + digit) {
+                return result.fail(NumberParseStatusEnum.OVERFLOW, index);
+            }
+            accumulator -= digit;
+        }
+
+        long value = negative ? accumulator : -accumulator;
+        result.success(value);
+        if (value < min || value > max) {
+            return result.fail(NumberParseStatusEnum.OUT_OF_RANGE, from);
+        }
+        return NumberParseStatusEnum.SUCCESS;
+    }
+
+    /**
+     * 不抛出异常地从 ASCII 字节片段 [from, to) 中解析 int，规则同 {@link ParameterHelper#tryParseInt(CharSequence, int, int, int, int, NumberParseResult)}
+     *
+     * @param bytes  待解析字节
+     * @param from   起始下标(包含)
+     * @param to     结束下标(不包含)
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @param result 接收解析结果，可重复使用
+     * @return 解析状态
+     */
+    default NumberParseStatusEnum tryParseInt(byte[] bytes, int from, int to, int min, int max, NumberParseResult result) {
+        if (tryParseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, result) == NumberParseStatusEnum.OUT_OF_RANGE) {
+            return result.fail(NumberParseStatusEnum.OVERFLOW, from);
+        }
+        if (result.isSuccess() && (result.getLongValue() < min || result.getLongValue() > max)) {
+            return result.fail(NumberParseStatusEnum.OUT_OF_RANGE, from);
+        }
+        return result.getStatus();
+    }
+
+    /**
+     * 不抛出异常地从 ASCII 字节片段 [from, to) 中解析 long，规则同 {@link ParameterHelper#tryParseLong(CharSequence, int, int, long, long, NumberParseResult)}
+     *
+     * @param bytes  待解析字节
+     * @param from   起始下标(包含)
+     * @param to     结束下标(不包含)
+     * @param min    允许的最小值
+     * @param max    允许的最大值
+     * @param result 接收解析结果，可重复使用
+     * @return 解析状态
+     */
+    default NumberParseStatusEnum tryParseLong(byte[] bytes, int from, int to, long min, long max, NumberParseResult result) {
+        if (bytes == null || from >= to) {
+            return result.fail(NumberParseStatusEnum.EMPTY, from);
+        }
+
+        int index = from;
+        boolean negative = false;
+        byte first = bytes[index];
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            } else if (first != '+') {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+            if (++index == to) {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long accumulator = 0;
+        for (; index < to; index++) {
+            int digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9) {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+            if (accumulator < multiplyLimit) {
+                return result.fail(NumberParseStatusEnum.OVERFLOW, index);
+            }
+            accumulator *= 10;
+            if (accumulator < limit + digit) {
+                return result.fail(NumberParseStatusEnum.OVERFLOW, index);
+            }
+            accumulator -= digit;
+        }
+
+        long value = negative ? accumulator : -accumulator;
+        result.success(value);
+        if (value < min || value > max) {
+            return result.fail(NumberParseStatusEnum.OUT_OF_RANGE, from);
+        }
+        return NumberParseStatusEnum.SUCCESS;
+    }
+
+    /**
+     * 不抛出异常地从文本片段 [from, to) 中解析 BigDecimal<br/>
+     * 先按 {@link BigDecimal#BigDecimal(String)} 的格式(符号、整数部分、小数部分、指数部分)逐字符校验，校验通过后才构造结果，
+     * 指数或最终精度超出 int 范围时返回 {@link NumberParseStatusEnum#OVERFLOW}
+     *
+     * @param text   待解析文本
+     * @param from   起始下标(包含)
+     * @param to     结束下标(不包含)
+     * @param result 接收解析结果，可重复使用
+     * @return 解析状态
+     */
+    default NumberParseStatusEnum tryParseBigDecimal(CharSequence text, int from, int to, NumberParseResult result) {
+        if (text == null || from >= to) {
+            return result.fail(NumberParseStatusEnum.EMPTY, from);
+        }
+
+        int index = from;
+        char current = text.charAt(index);
+        if (current == '+' || current == '-') {
+            index++;
+        }
+        int digitCount = 0;
+        int fractionCount = 0;
+        boolean dot = false;
+        for (; index < to; index++) {
+            current = text.charAt(index);
+            if ((current >= '0' && current <= '9') || (current >= 128 && Character.isDigit(current))) {
+                digitCount++;
+                if (dot) {
+                    fractionCount++;
+                }
+            } else if (current == '.' && !dot) {
+                dot = true;
+            } else if (current == 'e' || current == 'E') {
+                break;
+            } else {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+        }
+        if (digitCount == 0) {
+            return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+        }
+
+        if (index < to) {
+            int exponentStart = ++index;
+            if (index < to && (text.charAt(index) == '+' || text.charAt(index) == '-')) {
+                index++;
+            }
+            if (index == to) {
+                return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+            }
+            long exponent = 0;
+            for (; index < to; index++) {
+                current = text.charAt(index);
+                int digit = current - '0';
+                if (digit < 0 || digit > 9) {
+                    digit = current < 128 ? -1 : Character.digit(current, 10);
+                    if (digit < 0) {
+                        return result.fail(NumberParseStatusEnum.INVALID_FORMAT, index);
+                    }
+                }
+                exponent = exponent * 10 + digit;
+                if (exponent > Integer.MAX_VALUE + 1L) {
+                    return result.fail(NumberParseStatusEnum.OVERFLOW, index);
+                }
+            }
+            if (text.charAt(exponentStart) == '-') {
+                exponent = -exponent;
+            }
+            if (exponent < Integer.MIN_VALUE || exponent > Integer.MAX_VALUE) {
+                return result.fail(NumberParseStatusEnum.OVERFLOW, exponentStart);
+            }
+            long scale = fractionCount - exponent;
+            if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+                return result.fail(NumberParseStatusEnum.OVERFLOW, exponentStart);
+            }
+        }
+        return result.success(new BigDecimal(text.subSequence(from, to).toString()));
+    }
+
+    /**
+     * 不抛出异常地从 ASCII 字节片段 [from, to) 中解析 BigDecimal，规则同 {@link ParameterHelper#tryParseBigDecimal(CharSequence, int, int, NumberParseResult)}
+     *
+     * @param bytes  待解析字节
+     * @param from   起始下标(包含)
+     * @param to     结束下标(不包含)
+     * @param result 接收解析结果，可重复使用
+     * @return 解析状态
+     */
+    default NumberParseStatusEnum tryParseBigDecimal(byte[] bytes, int from, int to, NumberParseResult result) {
+        if (bytes == null || from >= to) {
+            return result.fail(NumberParseStatusEnum.EMPTY, from);
+        }
+        NumberParseStatusEnum status = tryParseBigDecimal(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1), 0, to - from, result);
+        if (status != NumberParseStatusEnum.SUCCESS) {
+            result.fail(status, from + result.getErrorIndex());
+        }
+        return status;
+    }
+
     /**
      * 转化目标为 (允许为空)
      *
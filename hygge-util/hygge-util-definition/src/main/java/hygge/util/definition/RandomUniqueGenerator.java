@@ -38,4 +38,20 @@ public interface RandomUniqueGenerator extends HyggeUtil {
      * @return 不重复的数字 id
      */
     long createKey();
+
+    /**
+     * 批量返回不重复的数字 id
+     * <p>
+     * 默认实现只是逐个调用 {@link RandomUniqueGenerator#createKey()}，实现类应尽量重写以减少加锁、读取时间的次数
+     *
+     * @param size 需要的 id 数量
+     * @return 不重复的数字 id 数组，长度与 size 相同
+     */
+    default long[] createKeys(int size) {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = createKey();
+        }
+        return result;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.definition;
+
+/**
+ * 雪花算法 id 生成器节点标识(workerId)的租约存储
+ * <p>
+ * 多个实例通过同一个租约存储竞争 workerId，保证同一时刻每个 workerId 最多只被一个实例持有。
+ * 实现可以基于共享目录下的文件锁、数据库行锁等
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public interface WorkerIdLeaseStore {
+    /**
+     * 尝试租用特定的 workerId
+     *
+     * @param workerId 节点标识
+     * @return 租用成功返回 true，已被其他实例持有返回 false
+     */
+    boolean tryAcquire(long workerId);
+
+    /**
+     * 为已持有的 workerId 续约(心跳)
+     *
+     * @param workerId 节点标识
+     */
+    void renew(long workerId);
+
+    /**
+     * 释放已持有的 workerId
+     *
+     * @param workerId 节点标识
+     */
+    void release(long workerId);
+}
@@ -16,7 +16,7 @@
 
 package hygge.util.inner;
 
-import hygge.commons.template.container.base.AbstractHyggeKeeper;
+import hygge.commons.template.container.base.AbstractLoadingHyggeKeeper;
 import hygge.util.definition.HyggeUtil;
 
 /**
@@ -24,7 +24,7 @@ import hygge.util.definition.HyggeUtil;
  * @date 2022/6/25
  * @since 1.0
  */
-public class UtilCreatorHyggeUtilKeeper extends AbstractHyggeKeeper<String, HyggeUtil> {
+public class UtilCreatorHyggeUtilKeeper extends AbstractLoadingHyggeKeeper<String, HyggeUtil> {
     public UtilCreatorHyggeUtilKeeper() {
     }
 
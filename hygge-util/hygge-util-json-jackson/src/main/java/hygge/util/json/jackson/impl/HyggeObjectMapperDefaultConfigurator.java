@@ -21,6 +21,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -80,8 +81,13 @@ public class HyggeObjectMapperDefaultConfigurator implements HyggeConfigurator<O
                 objectMapper.configure((JsonParser.Feature) key, value);
             } else if (key instanceof JsonGenerator.Feature) {
                 objectMapper.configure((JsonGenerator.Feature) key, value);
+            } else if (key instanceof Module) {
+                // 值为 true 时注册该模块 e.g. SnowFlakeIdModule
+                if (value) {
+                    objectMapper.registerModule((Module) key);
+                }
             } else {
-                throw new UtilRuntimeException("Unexpected config of JsonHelper<ObjectMapper>,they should come from MapperFeature,SerializationFeature,DeserializationFeature,JsonParser.Feature,JsonGenerator.Feature.");
+                throw new UtilRuntimeException("Unexpected config of JsonHelper<ObjectMapper>,they should come from MapperFeature,SerializationFeature,DeserializationFeature,JsonParser.Feature,JsonGenerator.Feature,Module.");
             }
         }
         // 时间戳处理时区默认为系统时区
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.json.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import hygge.util.impl.SnowFlakeIdCodec;
+
+import java.io.IOException;
+
+/**
+ * 雪花算法 id 反序列化器，支持紧凑字符串(直接读取解析器字符缓冲区)与原始数字两种输入
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class SnowFlakeIdDeserializer extends JsonDeserializer<Long> {
+    private final SnowFlakeIdCodec codec;
+
+    public SnowFlakeIdDeserializer(SnowFlakeIdCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return codec.decode(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.json.jackson.serializer;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import hygge.commons.annotation.HyggeSnowFlakeId;
+import hygge.util.impl.SnowFlakeIdCodec;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 用于支持 {@link HyggeSnowFlakeId} 标记的 long/Long 属性以紧凑字符串形式序列化、反序列化
+ * <p>
+ * 可作为 key(值为 true)放入 {@link hygge.util.json.jackson.impl.HyggeObjectMapperDefaultConfigurator} 的配置项进行注册
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class SnowFlakeIdModule extends SimpleModule {
+    public SnowFlakeIdModule() {
+        this(SnowFlakeIdCodec.BASE62);
+    }
+
+    public SnowFlakeIdModule(SnowFlakeIdCodec codec) {
+        super();
+        SnowFlakeIdSerializer compactSerializer = new SnowFlakeIdSerializer(codec, false);
+        SnowFlakeIdSerializer sortableSerializer = new SnowFlakeIdSerializer(codec, true);
+        SnowFlakeIdDeserializer deserializer = new SnowFlakeIdDeserializer(codec);
+
+        this.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                for (BeanPropertyWriter writer : beanProperties) {
+                    HyggeSnowFlakeId annotation = writer.getAnnotation(HyggeSnowFlakeId.class);
+                    if (annotation != null && isLongType(writer.getType().getRawClass()) && !writer.hasSerializer()) {
+                        writer.assignSerializer(annotation.sortable() ? sortableSerializer : compactSerializer);
+                    }
+                }
+                return beanProperties;
+            }
+        });
+
+        this.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+                List<SettableBeanProperty> targetList = new ArrayList<>();
+                Iterator<SettableBeanProperty> iterator = builder.getProperties();
+                while (iterator.hasNext()) {
+                    SettableBeanProperty property = iterator.next();
+                    if (property.getAnnotation(HyggeSnowFlakeId.class) != null && isLongType(property.getType().getRawClass()) && !property.hasValueDeserializer()) {
+                        targetList.add(property);
+                    }
+                }
+                for (SettableBeanProperty property : targetList) {
+                    builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), true);
+                }
+                return builder;
+            }
+        });
+    }
+
+    private static boolean isLongType(Class<?> type) {
+        return type == Long.class || type == Long.TYPE;
+    }
+}
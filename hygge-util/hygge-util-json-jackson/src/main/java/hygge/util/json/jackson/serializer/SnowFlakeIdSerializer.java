@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.json.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import hygge.util.impl.SnowFlakeIdCodec;
+
+import java.io.IOException;
+
+/**
+ * 雪花算法 id 序列化器，将 id 编码为紧凑字符串
+ * <p>
+ * 编码结果直接写入线程私有的 char[] 缓冲区再交给 {@link JsonGenerator}，不产生临时字符串
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+public class SnowFlakeIdSerializer extends JsonSerializer<Object> {
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[16]);
+    private final SnowFlakeIdCodec codec;
+    private final boolean sortable;
+
+    public SnowFlakeIdSerializer(SnowFlakeIdCodec codec, boolean sortable) {
+        this.codec = codec;
+        this.sortable = sortable;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        long id = ((Number) value).longValue();
+        char[] buffer = BUFFER.get();
+        int length = sortable ? codec.encodeSortable(id, buffer, 0) : codec.encode(id, buffer, 0);
+        gen.writeString(buffer, 0, length);
+    }
+}
@@ -16,7 +16,7 @@
 
 package hygge.commons.spring.event;
 
-import hygge.commons.template.container.base.AbstractInterfaceKeyHyggeContext;
+import hygge.commons.template.container.base.AbstractInterfaceKeyEnumHyggeContext;
 
 import java.util.Map;
 
@@ -24,7 +24,7 @@ import java.util.Map;
  * @author Xavier
  * @date 2026/7/1
  */
-public class HyggeEventListenerContext<S, E extends BaseHyggeEvent<S>> extends AbstractInterfaceKeyHyggeContext<Enum<?>, HyggeEventListenerContextKey> {
+public class HyggeEventListenerContext<S, E extends BaseHyggeEvent<S>> extends AbstractInterfaceKeyEnumHyggeContext<HyggeEventListenerContextKey> {
     private final long startTs;
     private Exception exception;
     /**
@@ -17,7 +17,7 @@
 package hygge.job;
 
 import hygge.commons.exception.InternalRuntimeException;
-import hygge.commons.template.container.base.AbstractInterfaceKeyHyggeContext;
+import hygge.commons.template.container.base.AbstractInterfaceKeyEnumHyggeContext;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -25,7 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @author Xavier
  * @date 2026/7/2
  */
-public class HyggeJobContext extends AbstractInterfaceKeyHyggeContext<Enum<?>, HyggeJobContextKey> {
+public class HyggeJobContext extends AbstractInterfaceKeyEnumHyggeContext<HyggeJobContextKey> {
     protected volatile JobStatusEnum status = JobStatusEnum.SUCCESS;
     protected final Long startTs = System.currentTimeMillis();
     /**
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.web.config;
+
+import hygge.commons.spring.config.configuration.definition.HyggeAutoConfiguration;
+import hygge.web.util.container.HyggeContainerStatsEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 容器统计信息端点自动注册器，默认不开启
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+@AutoConfiguration
+@ConditionalOnProperty(value = "hygge.web-toolkit.container.stats.enabled", havingValue = "true")
+public class HyggeContainerStatsAutoConfiguration implements HyggeAutoConfiguration {
+
+    @Bean("defaultHyggeContainerStatsEndpoint")
+    @ConditionalOnMissingBean(value = HyggeContainerStatsEndpoint.class)
+    public HyggeContainerStatsEndpoint defaultHyggeContainerStatsEndpoint() {
+        return new HyggeContainerStatsEndpoint();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.web.util.container;
+
+import hygge.commons.template.container.stats.HyggeContainerStats;
+import hygge.commons.template.container.stats.HyggeContainerStatsRegistry;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 容器统计信息端点，仅暴露通过 enableStats(name) 注册到 {@link HyggeContainerStatsRegistry} 的容器
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("${hygge.web-toolkit.container.stats.path:/hygge/container/stats}")
+public class HyggeContainerStatsEndpoint {
+
+    @GetMapping
+    public Map<String, HyggeContainerStats> stats() {
+        return HyggeContainerStatsRegistry.snapshot();
+    }
+
+    @GetMapping("/{name}")
+    public HyggeContainerStats stats(@PathVariable("name") String name) {
+        return HyggeContainerStatsRegistry.snapshot().get(name);
+    }
+}
@@ -97,11 +97,8 @@ public class DefaultHttpHelperRestTemplateFactory implements HttpHelperRestTempl
             config = defaultRequestConfiguration;
         }
 
-        RestTemplate result = restTemplateKeeper.getValue(config);
-        if (result == null) {
-            result = newInstance(config);
-        }
-        return result;
+        // 相同配置只会创建一次，不同配置的创建互不阻塞
+        return restTemplateKeeper.get(config, this::newInstance);
     }
 
     @Override
@@ -109,12 +106,7 @@ public class DefaultHttpHelperRestTemplateFactory implements HttpHelperRestTempl
         return defaultRequestConfiguration;
     }
 
-    private synchronized RestTemplate newInstance(HttpHelperRequestConfiguration config) {
-        RestTemplate result = restTemplateKeeper.getValue(config);
-        if (result != null) {
-            return result;
-        }
-
+    private RestTemplate newInstance(HttpHelperRequestConfiguration config) {
         HttpClientBuilder httpClientBuilder = HttpClientBuilder
                 .create()
                 .setConnectionManager(getHttpClientConnectionManager(config));
@@ -123,12 +115,10 @@ public class DefaultHttpHelperRestTemplateFactory implements HttpHelperRestTempl
         httpRequestFactory.setHttpClient(httpClientBuilder.build());
         httpRequestFactory.setConnectTimeout(parameterHelper.integerFormat("connectTimeOutMilliseconds", config.connectTimeOutMilliseconds()));
 
-        result = new RestTemplate(httpRequestFactory);
+        RestTemplate result = new RestTemplate(httpRequestFactory);
 
         toSupportUTF8(result);
         result.setErrorHandler(DEFAULT_RESPONSE_ERROR_HANDLER);
-
-        restTemplateKeeper.saveValue(config, result);
         return result;
     }
 
@@ -16,7 +16,7 @@
 
 package hygge.web.util.http.impl;
 
-import hygge.commons.template.container.base.AbstractHyggeKeeper;
+import hygge.commons.template.container.base.AbstractLoadingHyggeKeeper;
 import hygge.web.util.http.configuration.HttpHelperRequestConfiguration;
 import org.springframework.web.client.RestTemplate;
 
@@ -27,5 +27,5 @@ import org.springframework.web.client.RestTemplate;
  * @date 2023/8/28
  * @since 1.0
  */
-public class RestTemplateKeeper extends AbstractHyggeKeeper<HttpHelperRequestConfiguration, RestTemplate> {
+public class RestTemplateKeeper extends AbstractLoadingHyggeKeeper<HttpHelperRequestConfiguration, RestTemplate> {
 }
@@ -16,7 +16,7 @@
 
 package hygge.web.util.log;
 
-import hygge.commons.template.container.base.AbstractHyggeContext;
+import hygge.commons.template.container.base.AbstractEnumHyggeContext;
 import hygge.web.util.log.bo.ControllerLogInfo;
 
 /**
@@ -26,7 +26,7 @@ import hygge.web.util.log.bo.ControllerLogInfo;
  * @date 2022/7/14
  * @since 1.0
  */
-public class ControllerLogContext extends AbstractHyggeContext<ControllerLogContext.Key> {
+public class ControllerLogContext extends AbstractEnumHyggeContext<ControllerLogContext.Key> {
     private Long startTs;
     private ControllerLogInfo logInfo = new ControllerLogInfo();
 
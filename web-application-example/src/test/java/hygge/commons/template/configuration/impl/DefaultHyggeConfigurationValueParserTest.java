@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.configuration.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class DefaultHyggeConfigurationValueParserTest {
+    private static final DefaultHyggeConfigurationValueParser parser = DefaultHyggeConfigurationValueParser.INSTANCE;
+
+    @Test
+    void integralNumbersAreConvertedExactly() {
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), parser.parseInteger("key", (long) Integer.MAX_VALUE));
+        assertEquals(Integer.valueOf(3), parser.parseInteger("key", 3.0D));
+        assertEquals(Integer.valueOf(3000), parser.parseInteger("key", new BigDecimal("3E+3")));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), parser.parseLong("key", BigInteger.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.valueOf(1024L), parser.parseStorageBytes("key", 1024.0F));
+    }
+
+    @Test
+    void overflowAndFractionAreRejected() {
+        assertThrows(UtilRuntimeException.class, () -> parser.parseInteger("key", Integer.MAX_VALUE + 1L));
+        assertThrows(UtilRuntimeException.class, () -> parser.parseInteger("key", 1.5D));
+        assertThrows(UtilRuntimeException.class, () -> parser.parseInteger("key", Double.NaN));
+        assertThrows(UtilRuntimeException.class, () -> parser.parseLong("key", BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)));
+        assertThrows(UtilRuntimeException.class, () -> parser.parseLong("key", 1e19D));
+        assertThrows(UtilRuntimeException.class, () -> parser.parseStorageBytes("key", new BigDecimal("0.5")));
+    }
+}
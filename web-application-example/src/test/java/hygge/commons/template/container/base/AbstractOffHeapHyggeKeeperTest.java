@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.commons.template.container.base;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class AbstractOffHeapHyggeKeeperTest {
+    @Test
+    void evictLeastRecentlyUsedWithinCapacity() {
+        // 总量 2KB，每个值占用 512B 的块
+        AbstractOffHeapHyggeKeeper<String> keeper = new AbstractOffHeapHyggeKeeper<String>(2048, 1024, 64) {
+        };
+        for (int i = 0; i < 4; i++) {
+            keeper.saveValue("key" + i, new byte[500]);
+        }
+        assertEquals(4, keeper.size());
+        assertEquals(2048L, keeper.getUsedBytes());
+
+        // 访问后 key0 成为最近使用的元素
+        assertTrue(keeper.getBytes("key0") != null);
+        keeper.saveValue("key4", new byte[500]);
+        assertFalse(keeper.containsKey("key1"));
+        assertTrue(keeper.containsKey("key0"));
+        assertEquals(2048L, keeper.getUsedBytes());
+
+        // 整个 slab 大小的值需要淘汰同一 slab 内的伙伴块才能合并出空间
+        keeper.saveValue("large", new byte[1024]);
+        assertTrue(keeper.containsKey("large"));
+        assertTrue(keeper.getUsedBytes() <= 2048L);
+        assertEquals(1024, keeper.getBytes("large").length);
+    }
+
+    @Test
+    void usedBytesNeverExceedCapacity() {
+        AbstractOffHeapHyggeKeeper<Integer> keeper = new AbstractOffHeapHyggeKeeper<Integer>(8192, 1024, 16) {
+        };
+        for (int i = 0; i < 10_000; i++) {
+            byte[] value = new byte[1 + (i * 31) % 1024];
+            value[0] = (byte) i;
+            keeper.saveValue(i % 300, value);
+            assertTrue(keeper.getUsedBytes() <= 8192L);
+            assertEquals((byte) i, keeper.getBytes(i % 300)[0]);
+        }
+
+        keeper.clear();
+        assertEquals(0, keeper.size());
+        assertEquals(0L, keeper.getUsedBytes());
+    }
+}
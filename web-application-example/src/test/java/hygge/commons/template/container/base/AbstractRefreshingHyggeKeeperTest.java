@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.template.container.definition.AsyncReloader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class AbstractRefreshingHyggeKeeperTest {
+    @Test
+    void staleReadWhileRefreshing() {
+        ScriptedReloader reloader = new ScriptedReloader();
+        ManualClockRefreshingHyggeKeeper keeper = new ManualClockRefreshingHyggeKeeper(reloader);
+        keeper.saveValue("key", "v1");
+
+        keeper.now = 999L;
+        assertEquals("v1", keeper.getValue("key"));
+        assertEquals(0, reloader.calls.get());
+
+        // 到期后读取触发刷新，读取方立即拿到旧值
+        keeper.now = 1_000L;
+        CompletableFuture<String> pending = reloader.enqueuePending();
+        assertEquals("v1", keeper.getValue("key"));
+        assertEquals(1, reloader.calls.get());
+        // 同一元素同时只会有一个刷新
+        assertEquals("v1", keeper.getValue("key"));
+        assertEquals(1, reloader.calls.get());
+
+        pending.complete("v2");
+        assertEquals("v2", keeper.getValue("key"));
+        // 刷新成功后重新计时
+        keeper.now = 1_999L;
+        keeper.getValue("key");
+        assertEquals(1, reloader.calls.get());
+    }
+
+    @Test
+    void backOffAfterFailure() {
+        ScriptedReloader reloader = new ScriptedReloader();
+        ManualClockRefreshingHyggeKeeper keeper = new ManualClockRefreshingHyggeKeeper(reloader);
+        keeper.saveValue("key", "v1");
+
+        keeper.now = 1_000L;
+        reloader.enqueue(failed());
+        assertEquals("v1", keeper.getValue("key"));
+        assertEquals(1, reloader.calls.get());
+
+        // 首次失败后退避 100ms
+        keeper.now = 1_099L;
+        keeper.getValue("key");
+        assertEquals(1, reloader.calls.get());
+        keeper.now = 1_100L;
+        reloader.enqueue(CompletableFuture.completedFuture(null));
+        keeper.getValue("key");
+        assertEquals(2, reloader.calls.get());
+
+        // 第二次失败后退避时长翻倍
+        keeper.now = 1_299L;
+        keeper.getValue("key");
+        assertEquals(2, reloader.calls.get());
+        keeper.now = 1_300L;
+        reloader.enqueue(CompletableFuture.completedFuture("v2"));
+        assertEquals("v1", keeper.getValue("key"));
+        assertEquals("v2", keeper.getValue("key"));
+        assertEquals(3, reloader.calls.get());
+    }
+
+    @Test
+    void nullFutureOrThrowingReloaderDoesNotBlockLaterRefresh() {
+        ScriptedReloader reloader = new ScriptedReloader();
+        ManualClockRefreshingHyggeKeeper keeper = new ManualClockRefreshingHyggeKeeper(reloader);
+        keeper.saveValue("key", "v1");
+
+        // reloader 返回 null 视为刷新失败，不会向读取方抛出异常
+        // 没有预设结果时 reloader 返回 null
+        keeper.now = 1_000L;
+        assertEquals("v1", keeper.getValue("key"));
+
+        // reloader 直接抛出异常同样视为刷新失败
+        keeper.now = 1_100L;
+        reloader.throwNext = true;
+        assertEquals("v1", keeper.getValue("key"));
+        assertEquals(2, reloader.calls.get());
+
+        // 刷新标记已释放，退避结束后仍能正常刷新
+        keeper.now = 1_300L;
+        reloader.enqueue(CompletableFuture.completedFuture("v2"));
+        keeper.getValue("key");
+        assertEquals(3, reloader.calls.get());
+        assertEquals("v2", keeper.getValue("key"));
+    }
+
+    @Test
+    void overwriteWinsOverRefresh() {
+        ScriptedReloader reloader = new ScriptedReloader();
+        ManualClockRefreshingHyggeKeeper keeper = new ManualClockRefreshingHyggeKeeper(reloader);
+        keeper.saveValue("key", "v1");
+
+        keeper.now = 1_000L;
+        CompletableFuture<String> pending = reloader.enqueuePending();
+        keeper.getValue("key");
+        keeper.saveValue("key", "written");
+
+        // 刷新完成时元素已被覆盖，放弃本次刷新结果
+        pending.complete("reloaded");
+        assertEquals("written", keeper.getValue("key"));
+        // 覆盖写入重新计时
+        keeper.now = 1_999L;
+        keeper.getValue("key");
+        assertEquals(1, reloader.calls.get());
+    }
+
+    @Test
+    void removeValueDropsRefreshState() {
+        ScriptedReloader reloader = new ScriptedReloader();
+        ManualClockRefreshingHyggeKeeper keeper = new ManualClockRefreshingHyggeKeeper(reloader);
+        for (int i = 0; i < 100; i++) {
+            keeper.saveValue("key" + i, "value");
+        }
+        assertEquals(100, keeper.refreshStates.size());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value", keeper.removeValue("key" + i));
+        }
+        assertNull(keeper.removeValue("key0"));
+        assertTrue(keeper.refreshStates.isEmpty());
+        assertFalse(keeper.containsKey("key0"));
+    }
+
+    private static CompletableFuture<String> failed() {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.completeExceptionally(new IllegalStateException("reload failed"));
+        return result;
+    }
+
+    /**
+     * 按预设顺序返回结果的 reloader，没有预设结果时返回 null
+     */
+    private static class ScriptedReloader implements AsyncReloader<String, String> {
+        private final Queue<CompletableFuture<String>> results = new ArrayDeque<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private boolean throwNext;
+
+        @Override
+        public CompletableFuture<String> reload(String key, String oldValue, Executor executor) {
+            calls.incrementAndGet();
+            if (throwNext) {
+                throwNext = false;
+                throw new IllegalStateException("reloader broken");
+            }
+            return results.poll();
+        }
+
+        private void enqueue(CompletableFuture<String> result) {
+            results.add(result);
+        }
+
+        private CompletableFuture<String> enqueuePending() {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            results.add(result);
+            return result;
+        }
+    }
+
+    private static class ManualClockRefreshingHyggeKeeper extends AbstractRefreshingHyggeKeeper<String, String> {
+        private long now;
+
+        private ManualClockRefreshingHyggeKeeper(AsyncReloader<String, String> reloader) {
+            super(16, 0.75F, 1_000L, reloader, Runnable::run, 100L, 10_000L);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.base;
+
+import hygge.commons.constant.enums.ExpiryPolicyEnum;
+import hygge.commons.template.container.inner.JavaSerializationSnapshotCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 快照首次访问还原与并发写入的竞争：写入的新值不能被还原出的旧值覆盖
+ *
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class HyggeKeeperSnapshotRestoreTest {
+    private static final int KEY_COUNT = 10_000;
+    private static final JavaSerializationSnapshotCodec<String> CODEC = new JavaSerializationSnapshotCodec<>();
+
+    @Test
+    void concurrentHashMapKeeper() throws Exception {
+        assertSaveWinsOverRestore(() -> new AbstractHyggeKeeper<String, String>() {
+        });
+    }
+
+    @Test
+    void lruKeeper() throws Exception {
+        assertSaveWinsOverRestore(() -> new AbstractLRUHyggeKeeper<String, String>(KEY_COUNT * 2) {
+        });
+    }
+
+    @Test
+    void tinyLFUKeeper() throws Exception {
+        assertSaveWinsOverRestore(() -> new AbstractTinyLFUHyggeKeeper<String, String>(KEY_COUNT * 2) {
+        });
+    }
+
+    @Test
+    void expiringKeeper() throws Exception {
+        assertSaveWinsOverRestore(() -> new AbstractExpiringHyggeKeeper<String, String>(600_000L, ExpiryPolicyEnum.AFTER_WRITE) {
+        });
+    }
+
+    @Test
+    void fifoKeeper() throws Exception {
+        assertSaveWinsOverRestore(() -> new AbstractFIFOHyggeKeeper<String, String>(KEY_COUNT * 2) {
+        });
+    }
+
+    private static void assertSaveWinsOverRestore(Supplier<AbstractHyggeKeeper<String, String>> factory) throws Exception {
+        Path file = Files.createTempFile("hygge-keeper-snapshot", ".bin");
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            AbstractHyggeKeeper<String, String> origin = factory.get();
+            for (int i = 0; i < KEY_COUNT; i++) {
+                origin.saveValue("key" + i, "old" + i);
+            }
+            assertEquals(KEY_COUNT, origin.snapshotTo(file, CODEC, CODEC));
+
+            AbstractHyggeKeeper<String, String> keeper = factory.get();
+            assertEquals(KEY_COUNT, keeper.restoreFrom(file, CODEC, CODEC));
+
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Future<?> reader = executorService.submit(() -> {
+                for (int i = 0; i < KEY_COUNT; i++) {
+                    barrier.await();
+                    keeper.getValue("key" + i);
+                }
+                return null;
+            });
+            Future<?> writer = executorService.submit(() -> {
+                for (int i = 0; i < KEY_COUNT; i++) {
+                    barrier.await();
+                    keeper.saveValue("key" + i, "new" + i);
+                }
+                return null;
+            });
+            reader.get();
+            writer.get();
+
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertEquals("new" + i, keeper.getValue("key" + i));
+            }
+        } finally {
+            executorService.shutdownNow();
+            Files.deleteIfExists(file);
+        }
+    }
+}
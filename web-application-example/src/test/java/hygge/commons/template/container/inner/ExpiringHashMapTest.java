@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.constant.enums.ExpiryPolicyEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class ExpiringHashMapTest {
+    @Test
+    void afterAccessReschedulesOnAccess() {
+        ManualClockExpiringHashMap<String, String> map = new ManualClockExpiringHashMap<>(1_000L, ExpiryPolicyEnum.AFTER_ACCESS);
+        List<String> evicted = new ArrayList<>();
+        map.setEvictionListener((key, value) -> evicted.add(key));
+
+        map.put("key", "value");
+        map.now = 800L;
+        // 访问后到期时间顺延到 1800
+        assertEquals("value", map.get("key"));
+
+        // 原到期槽位被推进时元素会被重新调度，而不是被移除
+        map.now = 1_500L;
+        map.cleanUp();
+        assertTrue(evicted.isEmpty());
+        assertEquals(1, map.getScheduledSize());
+        // containsKey 不算访问，不会再次顺延
+        assertTrue(map.containsKey("key"));
+
+        map.now = 1_900L;
+        map.cleanUp();
+        assertEquals(1, evicted.size());
+        assertEquals(0, map.getScheduledSize());
+        assertNull(map.get("key"));
+    }
+
+    @Test
+    void afterWriteIgnoresAccess() {
+        ManualClockExpiringHashMap<String, String> map = new ManualClockExpiringHashMap<>(1_000L, ExpiryPolicyEnum.AFTER_WRITE);
+        map.put("key", "value");
+        map.now = 800L;
+        assertEquals("value", map.get("key"));
+
+        map.now = 1_500L;
+        assertFalse(map.containsKey("key"));
+    }
+
+    @Test
+    void overwriteRemoveAndClearReleaseWheelEntries() {
+        ManualClockExpiringHashMap<Integer, String> map = new ManualClockExpiringHashMap<>(60_000L, ExpiryPolicyEnum.AFTER_WRITE);
+        for (int i = 0; i < 1_000; i++) {
+            map.put(1, "value" + i);
+        }
+        assertEquals(1, map.getScheduledSize());
+
+        assertEquals("value999", map.remove(1));
+        assertEquals(0, map.getScheduledSize());
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "value" + i);
+        }
+        assertEquals(10, map.getScheduledSize());
+        map.clear();
+        assertEquals(0, map.getScheduledSize());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void atomicOperationsTreatExpiredAsAbsent() {
+        ManualClockExpiringHashMap<String, Integer> map = new ManualClockExpiringHashMap<>(1_000L, ExpiryPolicyEnum.AFTER_WRITE);
+        assertNull(map.putIfAbsent("key", 1));
+        assertEquals(Integer.valueOf(1), map.putIfAbsent("key", 2));
+
+        map.now = 2_000L;
+        assertNull(map.putIfAbsent("key", 3));
+        assertEquals(Integer.valueOf(3), map.get("key"));
+        assertEquals(1, map.getScheduledSize());
+
+        assertEquals(Integer.valueOf(5), map.merge("key", 2, Integer::sum));
+        assertFalse(map.replace("key", 3, 6));
+        assertTrue(map.replace("key", 5, 6));
+        assertEquals(Integer.valueOf(6), map.get("key"));
+
+        assertNull(map.compute("key", (key, value) -> null));
+        assertFalse(map.containsKey("key"));
+        assertEquals(0, map.getScheduledSize());
+
+        assertEquals(Integer.valueOf(7), map.computeIfAbsent("other", key -> 7));
+        assertFalse(map.remove("other", 8));
+        assertTrue(map.remove("other", 7));
+        assertEquals(0, map.getScheduledSize());
+    }
+
+    private static class ManualClockExpiringHashMap<K, V> extends ExpiringHashMap<K, V> {
+        private long now;
+
+        private ManualClockExpiringHashMap(long defaultTtlMillis, ExpiryPolicyEnum expiryPolicy) {
+            super(defaultTtlMillis, expiryPolicy);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class HierarchicalTimingWheelTest {
+    @Test
+    void cascadeFromHigherLevel() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(0L);
+        List<Long> expired = new ArrayList<>();
+        int[] handed = {0};
+        Consumer<Long> onExpire = reschedulingCallback(wheel, expired, handed);
+
+        // 延迟 10s 超出第 0 层跨度(4096ms)，放入第 1 层
+        wheel.schedule(10_000L, 10_000L);
+
+        // 跨过第 1 层槽位(8192ms)时交给回调，回调将其降级到第 0 层
+        wheel.advance(9_000L, onExpire);
+        assertEquals(1, handed[0]);
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        wheel.advance(9_999L, onExpire);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(10_100L, onExpire);
+        assertEquals(Collections.singletonList(10_000L), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadeThroughAllLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(0L);
+        List<Long> expired = new ArrayList<>();
+        int[] handed = {0};
+        Consumer<Long> onExpire = reschedulingCallback(wheel, expired, handed);
+
+        long expireAt = 3_600_000L;
+        wheel.schedule(expireAt, expireAt);
+
+        long firedAt = -1L;
+        for (long now = 1_000L; now <= expireAt + 10_000L && firedAt < 0; now += 1_000L) {
+            wheel.advance(now, onExpire);
+            if (!expired.isEmpty()) {
+                firedAt = now;
+            }
+        }
+        assertTrue(firedAt >= expireAt, "fired too early: " + firedAt);
+        assertTrue(firedAt < expireAt + 1_000L + 64L, "fired too late: " + firedAt);
+        // 依次经过第 2、1、0 层
+        assertTrue(handed[0] >= 3, "unexpected cascade count: " + handed[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelAndClear() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(0L);
+        HierarchicalTimingWheel.Entry<String> first = wheel.schedule("first", 100L);
+        HierarchicalTimingWheel.Entry<String> second = wheel.schedule("second", 100L);
+        HierarchicalTimingWheel.Entry<String> third = wheel.schedule("third", 100L);
+        assertEquals(3, wheel.size());
+
+        wheel.cancel(second);
+        wheel.cancel(second);
+        wheel.cancel(null);
+        assertFalse(second.isLinked());
+        assertEquals(2, wheel.size());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(200L, expired::add);
+        assertEquals(2, expired.size());
+        assertTrue(expired.contains("first") && expired.contains("third"));
+        assertFalse(first.isLinked());
+
+        // 已交给回调的节点再被摘除不影响计数
+        wheel.cancel(third);
+        assertEquals(0, wheel.size());
+
+        HierarchicalTimingWheel.Entry<String> near = wheel.schedule("near", 300L);
+        HierarchicalTimingWheel.Entry<String> far = wheel.schedule("far", 100_000_000L);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertFalse(near.isLinked());
+        assertFalse(far.isLinked());
+
+        expired.clear();
+        wheel.advance(200_000_000L, expired::add);
+        assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    void cancelOtherEntryInsideCallback() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(0L);
+        List<HierarchicalTimingWheel.Entry<String>> entries = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            entries.add(wheel.schedule("item" + i, 100L));
+        }
+        List<String> expired = new ArrayList<>();
+        wheel.advance(200L, item -> {
+            expired.add(item);
+            // 同一槽位中尚未处理的元素被回调摘除后不应再被交给回调
+            wheel.cancel(entries.get(3));
+        });
+        assertEquals(3, expired.size());
+        assertFalse(expired.contains("item3"));
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * 与 {@link ExpiringHashMap} 相同的回调策略：已到期则收集，否则重新调度
+     */
+    private static Consumer<Long> reschedulingCallback(HierarchicalTimingWheel<Long> wheel, List<Long> expired, int[] handed) {
+        return expireAt -> {
+            handed[0]++;
+            if (expireAt <= wheel.getCurrentTime()) {
+                expired.add(expireAt);
+            } else {
+                wheel.schedule(expireAt, expireAt);
+            }
+        };
+    }
+}
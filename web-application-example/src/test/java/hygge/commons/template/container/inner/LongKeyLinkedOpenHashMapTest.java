@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.commons.template.container.inner;
+
+import hygge.commons.constant.enums.EvictionPolicyEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class LongKeyLinkedOpenHashMapTest {
+    @Test
+    void backwardShiftKeepsCollidingKeysReachable() {
+        // 容量 64 且不会扩容，寻址方式与 LongKeyLinkedOpenHashMap 内部一致
+        LongKeyLinkedOpenHashMap<String> map = new LongKeyLinkedOpenHashMap<>(32, 0.75f, null, EvictionPolicyEnum.NONE);
+        int mask = 63;
+        long[] colliding = new long[4];
+        int found = 0;
+        long wrapping = -1;
+        for (long key = 0; found < colliding.length || wrapping < 0; key++) {
+            int slot = (int) LongKeyLinkedOpenHashMap.mix(key) & mask;
+            if (slot == 62 && found < colliding.length) {
+                colliding[found++] = key;
+            } else if (slot == 63 && wrapping < 0) {
+                wrapping = key;
+            }
+        }
+
+        // 4 个 key 占据 62、63、0、1 号槽位(越过表尾回绕)，之后期望落在 63 号槽位的 key 被挤到 2 号槽位
+        for (long key : colliding) {
+            map.put(key, "v" + key);
+        }
+        map.put(wrapping, "v" + wrapping);
+
+        assertEquals("v" + colliding[0], map.remove(colliding[0]));
+        assertEquals("v" + colliding[2], map.remove(colliding[2]));
+        assertNull(map.get(colliding[0]));
+        assertNull(map.get(colliding[2]));
+        assertEquals("v" + colliding[1], map.get(colliding[1]));
+        assertEquals("v" + colliding[3], map.get(colliding[3]));
+        assertEquals("v" + wrapping, map.get(wrapping));
+        assertEquals(3, map.size());
+
+        // 向后移位后不再残留无效槽位，重新插入与删除互不影响
+        map.put(colliding[0], "again");
+        assertEquals("again", map.get(colliding[0]));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    void randomOperationsMatchHashMap() {
+        LongKeyLinkedOpenHashMap<Long> map = new LongKeyLinkedOpenHashMap<>(4, 0.75f, null, EvictionPolicyEnum.NONE);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(13L);
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(512);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 512; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void fifoEvictsEldestInserted() {
+        LongKeyLinkedOpenHashMap<String> map = new LongKeyLinkedOpenHashMap<>(16, 0.75f, 3, EvictionPolicyEnum.FIFO);
+        List<Long> evicted = new ArrayList<>();
+        map.setEvictionListener((key, value) -> evicted.add(key));
+
+        map.put(1L, "a");
+        map.put(2L, "b");
+        map.put(3L, "c");
+        // FIFO 模式下读取与覆盖都不改变顺序
+        map.get(1L);
+        map.put(1L, "a2");
+        map.put(4L, "d");
+        assertEquals(Arrays.asList(1L), evicted);
+
+        map.remove(3L);
+        map.put(5L, "e");
+        map.put(6L, "f");
+        assertEquals(Arrays.asList(1L, 2L), evicted);
+        assertFalse(map.containsKey(2L));
+        assertTrue(map.containsKey(4L));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsed() {
+        LongKeyLinkedOpenHashMap<String> map = new LongKeyLinkedOpenHashMap<>(16, 0.75f, 3, EvictionPolicyEnum.LRU);
+        List<Long> evicted = new ArrayList<>();
+        map.setEvictionListener((key, value) -> evicted.add(key));
+
+        map.put(1L, "a");
+        map.put(2L, "b");
+        map.put(3L, "c");
+        map.get(1L);
+        map.put(4L, "d");
+        assertEquals(Arrays.asList(2L), evicted);
+
+        map.put(3L, "c2");
+        map.put(5L, "e");
+        assertEquals(Arrays.asList(2L, 1L), evicted);
+
+        // 穿插删除与反复淘汰后，链表顺序依旧正确
+        map.remove(4L);
+        for (long key = 10; key < 100; key++) {
+            map.put(key, "x");
+        }
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(97L));
+        assertTrue(map.containsKey(98L));
+        assertTrue(map.containsKey(99L));
+    }
+}
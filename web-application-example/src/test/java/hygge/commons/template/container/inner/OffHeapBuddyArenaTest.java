@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.commons.template.container.inner;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class OffHeapBuddyArenaTest {
+    @Test
+    void splitAndMerge() {
+        // 单个 slab 1024B，最小块 64B，共 5 阶
+        OffHeapBuddyArena arena = new OffHeapBuddyArena(1024, 1024, 64);
+
+        long first = arena.allocate(64);
+        long second = arena.allocate(64);
+        long third = arena.allocate(200);
+        // 1024 逐级拆分后，最小块依次取左半部分，伙伴块紧随其后
+        assertEquals(0L, first);
+        assertEquals(64L, second);
+        assertEquals(256L, third);
+        assertEquals(64L + 64L + 256L, arena.getAllocatedBytes());
+
+        arena.free(second, 64);
+        arena.free(first, 64);
+        arena.free(third, 200);
+        assertEquals(0L, arena.getAllocatedBytes());
+
+        // 全部释放后逐级合并回完整的 slab，整块分配无需申请新的 slab
+        assertEquals(0L, arena.allocate(1024));
+        assertEquals(1024L, arena.getReservedBytes());
+    }
+
+    @Test
+    void noBlockWhenCapacityExhausted() {
+        OffHeapBuddyArena arena = new OffHeapBuddyArena(2048, 1024, 64);
+
+        long left = arena.allocate(512);
+        long right = arena.allocate(512);
+        long other = arena.allocate(1024);
+        assertEquals(1L << 32, other);
+        assertEquals(OffHeapBuddyArena.NO_BLOCK, arena.allocate(64));
+
+        // 只释放其中一半时无法合并出完整的 slab
+        arena.free(left, 512);
+        assertEquals(OffHeapBuddyArena.NO_BLOCK, arena.allocate(1024));
+        arena.free(right, 512);
+        assertEquals(0L, arena.allocate(1024));
+        assertEquals(2048L, arena.getReservedBytes());
+    }
+
+    @Test
+    void randomAllocateAndFree() {
+        OffHeapBuddyArena arena = new OffHeapBuddyArena(4 * 4096, 4096, 16);
+        Random random = new Random(7L);
+        List<long[]> allocated = new ArrayList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            if (!allocated.isEmpty() && (random.nextBoolean() || allocated.size() > 200)) {
+                long[] block = allocated.remove(random.nextInt(allocated.size()));
+                arena.free(block[0], (int) block[1]);
+                continue;
+            }
+            int length = 1 + random.nextInt(1024);
+            long block = arena.allocate(length);
+            if (block != OffHeapBuddyArena.NO_BLOCK) {
+                allocated.add(new long[]{block, length});
+            }
+        }
+
+        // 已分配的块互不重叠
+        Set<Long> used = new HashSet<>();
+        for (long[] block : allocated) {
+            int blocks = Integer.highestOneBit((int) ((block[1] + 15) / 16) * 2 - 1);
+            for (int j = 0; j < blocks; j++) {
+                assertTrue(used.add(block[0] + j * 16L));
+            }
+        }
+
+        for (long[] block : allocated) {
+            arena.free(block[0], (int) block[1]);
+        }
+        assertEquals(0L, arena.getAllocatedBytes());
+        // 全部释放后每个 slab 都能重新整块分配
+        for (int i = 0; i < arena.getReservedBytes() / 4096; i++) {
+            assertTrue(arena.allocate(4096) != OffHeapBuddyArena.NO_BLOCK);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.commons.template.container.inner;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class TinyLFUHashMapTest {
+
+    @Test
+    void scanDoesNotEvictHotKeys() {
+        TinyLFUHashMap<String, Integer> map = new TinyLFUHashMap<>(100);
+        List<String> evicted = new ArrayList<>();
+        map.setEvictionListener((key, value) -> evicted.add(key));
+
+        for (int i = 0; i < 50; i++) {
+            map.put("hot-" + i, i);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                map.get("hot-" + i);
+            }
+        }
+        // 一次性扫描大量冷数据
+        for (int i = 0; i < 1000; i++) {
+            map.put("cold-" + i, i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(map.containsKey("hot-" + i));
+        }
+        assertEquals(100, map.size());
+        assertEquals(1050 - 100, evicted.size());
+        for (String key : evicted) {
+            assertTrue(key.startsWith("cold-"));
+        }
+    }
+
+    @Test
+    void putIfAbsentOnPresentKeyIsNotAnAccess() {
+        // 准入窗口 1 个，主区域 9 个
+        TinyLFUHashMap<String, Integer> map = new TinyLFUHashMap<>(10);
+        List<String> evicted = new ArrayList<>();
+        map.setEvictionListener((key, value) -> evicted.add(key));
+
+        for (int i = 0; i < 10; i++) {
+            map.put("k" + i, i);
+        }
+        // k9 位于准入窗口，其余元素已占满主区域；对已存在元素的 putIfAbsent 不应计入访问频率
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.valueOf(9), map.putIfAbsent("k9", -1));
+        }
+
+        // k9 被挤出准入窗口，频率不高于考察区淘汰候选者 k0，被直接丢弃
+        map.put("next", 10);
+
+        assertFalse(map.containsKey("k9"));
+        assertTrue(map.containsKey("k0"));
+        assertEquals("k9", evicted.get(evicted.size() - 1));
+    }
+}
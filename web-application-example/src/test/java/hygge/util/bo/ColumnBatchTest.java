@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.util.bo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class ColumnBatchTest {
+    @Test
+    void concatNullBitmapsAcross64RowBoundaries() {
+        ColumnPlan plan = ColumnPlan.compile(Arrays.asList(
+                new ColumnInfo(false, false, "id", "c_id", 1L, Long.MAX_VALUE),
+                new ColumnInfo(true, true, "score", "c_score", 0L, Long.MAX_VALUE),
+                new ColumnInfo(true, true, "name", null).toStringColumn(0, 10)
+        ));
+
+        List<Map<String, Object>> rawDataList = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Map<String, Object> rawData = new HashMap<>();
+            // 每 7 行有一行校验失败，使有效行的下标与原始下标错开
+            rawData.put("id", i % 7 == 6 ? -1L : i + 1L);
+            // score 在 64 的倍数附近为 null，其余行交替为 null
+            if (i % 64 != 0 && i % 64 != 63 && i % 2 == 0) {
+                rawData.put("score", (long) i);
+            }
+            rawData.put("name", i % 3 == 0 ? null : "n" + i);
+            rawDataList.add(rawData);
+        }
+        ColumnBatch whole = plan.applyBatch(rawDataList);
+
+        // 分块大小刻意跨越 64 行边界：空块、1 行、63 行、64 行、65 行以及剩余部分
+        int[] bounds = {0, 0, 1, 64, 128, 193, 200, 400};
+        List<ColumnBatch> batches = new ArrayList<>();
+        for (int i = 1; i < bounds.length; i++) {
+            batches.add(plan.applyBatch(rawDataList, bounds[i - 1], bounds[i]));
+        }
+        ColumnBatch concat = ColumnBatch.concat(batches);
+
+        assertEquals(whole.getRowCount(), concat.getRowCount());
+        assertArrayEquals(whole.getSourceRowIndexes(), concat.getSourceRowIndexes());
+        assertEquals(whole.getErrors().size(), concat.getErrors().size());
+        for (int row = 0; row < concat.getRowCount(); row++) {
+            int sourceRowIndex = concat.getSourceRowIndex(row);
+            Map<String, Object> rawData = rawDataList.get(sourceRowIndex);
+            for (int column = 0; column < concat.getColumnCount(); column++) {
+                Object expected = rawData.get(plan.getColumnName(column));
+                assertEquals(expected == null, concat.isNull(column, row));
+                assertEquals(whole.isNull(column, row), concat.isNull(column, row));
+                assertEquals(whole.getObject(column, row), concat.getObject(column, row));
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.util.definition;
+
+import hygge.commons.constant.enums.NumberParseStatusEnum;
+import hygge.util.UtilCreator;
+import hygge.util.bo.NumberParseResult;
+import hygge.util.impl.DefaultParameterHelper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class ParameterHelperNumberParseTest {
+    private static final ParameterHelper parameterHelper = UtilCreator.INSTANCE.getDefaultInstance(ParameterHelper.class);
+
+    @Test
+    void tryParseLongBoundary() {
+        assertLong("-9223372036854775808", NumberParseStatusEnum.SUCCESS, Long.MIN_VALUE);
+        assertLong("9223372036854775807", NumberParseStatusEnum.SUCCESS, Long.MAX_VALUE);
+        assertLong("+9223372036854775807", NumberParseStatusEnum.SUCCESS, Long.MAX_VALUE);
+        assertLong("-0", NumberParseStatusEnum.SUCCESS, 0L);
+        assertLong("00000000000000000000000001", NumberParseStatusEnum.SUCCESS, 1L);
+        assertLong("9223372036854775808", NumberParseStatusEnum.OVERFLOW, 0L);
+        assertLong("-9223372036854775809", NumberParseStatusEnum.OVERFLOW, 0L);
+        assertLong("92233720368547758070", NumberParseStatusEnum.OVERFLOW, 0L);
+        assertLong("+", NumberParseStatusEnum.INVALID_FORMAT, 0L);
+        assertLong("-", NumberParseStatusEnum.INVALID_FORMAT, 0L);
+        assertLong("1-", NumberParseStatusEnum.INVALID_FORMAT, 0L);
+        assertLong(" 1", NumberParseStatusEnum.INVALID_FORMAT, 0L);
+        assertLong("", NumberParseStatusEnum.EMPTY, 0L);
+    }
+
+    @Test
+    void tryParseIntBoundary() {
+        assertInt("-2147483648", NumberParseStatusEnum.SUCCESS, Integer.MIN_VALUE);
+        assertInt("2147483647", NumberParseStatusEnum.SUCCESS, Integer.MAX_VALUE);
+        assertInt("2147483648", NumberParseStatusEnum.OVERFLOW, 0);
+        assertInt("-2147483649", NumberParseStatusEnum.OVERFLOW, 0);
+        // 超出 long 范围时同样视为溢出
+        assertInt("-9223372036854775809", NumberParseStatusEnum.OVERFLOW, 0);
+        assertInt("+", NumberParseStatusEnum.INVALID_FORMAT, 0);
+
+        NumberParseResult result = new NumberParseResult();
+        // 可以表示但超出调用方范围，并保留实际解析出的值
+        assertEquals(NumberParseStatusEnum.OUT_OF_RANGE, parameterHelper.tryParseInt("101", 0, 3, 0, 100, result));
+        assertEquals(101L, result.getLongValue());
+        assertEquals(NumberParseStatusEnum.SUCCESS, parameterHelper.tryParseInt("x100x", 1, 4, 0, 100, result));
+        assertEquals(100, result.getIntValue());
+    }
+
+    @Test
+    void boxedHooksApplyToPrimitiveVariants() {
+        ParameterHelper helper = new DefaultParameterHelper() {
+            @Override
+            public Integer hookInteger(Integer resultTemp) {
+                return resultTemp == null ? null : resultTemp * 10;
+            }
+
+            @Override
+            public Long hookLong(Long resultTemp) {
+                return resultTemp == null ? null : resultTemp * 10;
+            }
+        };
+
+        assertEquals(Integer.valueOf(20), helper.integerFormat("target", "2"));
+        assertEquals(20, helper.integerFormatOfNullable("target", "2", 0));
+        assertEquals(20, helper.integerFormat("2", 0, "error"));
+        assertEquals(Long.valueOf(20L), helper.longFormat("target", "2"));
+        assertEquals(20L, helper.longFormatOfNullable("target", "2", 0L));
+        assertEquals(20L, helper.longFormat("2", 0L, "error"));
+    }
+
+    @Test
+    void tryParseBigDecimalExponent() {
+        assertBigDecimal("1e2147483647", NumberParseStatusEnum.SUCCESS);
+        assertBigDecimal("1e-2147483647", NumberParseStatusEnum.SUCCESS);
+        assertBigDecimal("-1.5E+10", NumberParseStatusEnum.SUCCESS);
+        assertBigDecimal(".5", NumberParseStatusEnum.SUCCESS);
+        assertBigDecimal("5.", NumberParseStatusEnum.SUCCESS);
+        // 指数超出 int 范围
+        assertBigDecimal("1e2147483648", NumberParseStatusEnum.OVERFLOW);
+        assertBigDecimal("1e99999999999999999999", NumberParseStatusEnum.OVERFLOW);
+        // 指数在 int 范围内，但换算出的精度超出 int 范围
+        assertBigDecimal("1e-2147483648", NumberParseStatusEnum.OVERFLOW);
+        assertBigDecimal("0.1e-2147483647", NumberParseStatusEnum.OVERFLOW);
+        assertBigDecimal("+", NumberParseStatusEnum.INVALID_FORMAT);
+        assertBigDecimal("1e", NumberParseStatusEnum.INVALID_FORMAT);
+        assertBigDecimal("1e+", NumberParseStatusEnum.INVALID_FORMAT);
+        assertBigDecimal("e5", NumberParseStatusEnum.INVALID_FORMAT);
+        assertBigDecimal("1.2.3", NumberParseStatusEnum.INVALID_FORMAT);
+        assertBigDecimal("", NumberParseStatusEnum.EMPTY);
+    }
+
+    private static void assertLong(String text, NumberParseStatusEnum expectedStatus, long expectedValue) {
+        NumberParseResult result = new NumberParseResult();
+        assertEquals(expectedStatus, parameterHelper.tryParseLong(text, 0, text.length(), Long.MIN_VALUE, Long.MAX_VALUE, result));
+        byte[] bytes = ("#" + text + "#").getBytes(StandardCharsets.US_ASCII);
+        NumberParseResult bytesResult = new NumberParseResult();
+        assertEquals(expectedStatus, parameterHelper.tryParseLong(bytes, 1, bytes.length - 1, Long.MIN_VALUE, Long.MAX_VALUE, bytesResult));
+        if (expectedStatus == NumberParseStatusEnum.SUCCESS) {
+            assertEquals(expectedValue, result.getLongValue());
+            assertEquals(expectedValue, bytesResult.getLongValue());
+            assertEquals(Long.parseLong(text), result.getLongValue());
+        }
+    }
+
+    private static void assertInt(String text, NumberParseStatusEnum expectedStatus, int expectedValue) {
+        NumberParseResult result = new NumberParseResult();
+        assertEquals(expectedStatus, parameterHelper.tryParseInt(text, 0, text.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, result));
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        NumberParseResult bytesResult = new NumberParseResult();
+        assertEquals(expectedStatus, parameterHelper.tryParseInt(bytes, 0, bytes.length, Integer.MIN_VALUE, Integer.MAX_VALUE, bytesResult));
+        if (expectedStatus == NumberParseStatusEnum.SUCCESS) {
+            assertEquals(expectedValue, result.getIntValue());
+            assertEquals(expectedValue, bytesResult.getIntValue());
+            assertEquals(Integer.parseInt(text), result.getIntValue());
+        }
+    }
+
+    private static void assertBigDecimal(String text, NumberParseStatusEnum expectedStatus) {
+        NumberParseResult result = new NumberParseResult();
+        assertEquals(expectedStatus, parameterHelper.tryParseBigDecimal(text, 0, text.length(), result));
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        NumberParseResult bytesResult = new NumberParseResult();
+        assertEquals(expectedStatus, parameterHelper.tryParseBigDecimal(bytes, 0, bytes.length, bytesResult));
+        if (expectedStatus == NumberParseStatusEnum.SUCCESS) {
+            // 与 JDK 解析结果完全一致(包括精度)
+            assertEquals(new BigDecimal(text), result.getBigDecimalValue());
+            assertEquals(new BigDecimal(text), bytesResult.getBigDecimalValue());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package hygge.util.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class CachedHyggeClockTest {
+
+    @Test
+    void timeKeepsAdvancingAfterShutdown() throws InterruptedException {
+        CachedHyggeClock clock = new CachedHyggeClock(1L);
+        clock.shutdown();
+
+        long before = clock.currentTimeMillis();
+        Thread.sleep(20L);
+        assertTrue(clock.currentTimeMillis() > before);
+    }
+
+    @Test
+    void generatorDoesNotSpinAfterClockShutdown() {
+        CachedHyggeClock clock = new CachedHyggeClock(1L);
+        clock.shutdown();
+
+        Properties properties = SnowFlakeGenerator.createDefaultConfig();
+        properties.put(SnowFlakeGenerator.ConfigKey.CLOCK, clock);
+        // 序列号只有 2 位，每毫秒 4 个后即需等待下一毫秒
+        properties.put(SnowFlakeGenerator.ConfigKey.SEQUENCE_PART_LENGTH, 2);
+        SnowFlakeGenerator generator = new SnowFlakeGenerator(properties);
+
+        int total = 64;
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < total; i++) {
+            keys.add(generator.createKey());
+        }
+        assertEquals(total, keys.size());
+    }
+}
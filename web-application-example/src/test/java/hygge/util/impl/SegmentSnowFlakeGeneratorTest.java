@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.util.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class SegmentSnowFlakeGeneratorTest {
+    @Test
+    void refillAtWatermark() {
+        ManualExecutor executor = new ManualExecutor();
+        SegmentSnowFlakeGenerator generator = createGenerator(executor);
+        Set<Long> keys = new HashSet<>();
+
+        // 下标达到 4 时触发一次异步填充
+        for (int i = 0; i < 4; i++) {
+            assertTrue(keys.add(generator.createKey()));
+        }
+        assertEquals(0, executor.tasks.size());
+        assertTrue(keys.add(generator.createKey()));
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+
+        // 当前段耗尽后切换为已填充好的备用段，切换本身不会提交新的任务
+        for (int i = 0; i < 4; i++) {
+            assertTrue(keys.add(generator.createKey()));
+        }
+        assertEquals(0, executor.tasks.size());
+        assertEquals(1, executor.executed);
+    }
+
+    @Test
+    void skipRefillWhileStandbyFull() {
+        ManualExecutor executor = new ManualExecutor();
+        SegmentSnowFlakeGenerator generator = createGenerator(executor);
+        Set<Long> keys = new HashSet<>();
+
+        // 填充任务未能及时执行，当前段耗尽时在调用线程中同步填充
+        for (int i = 0; i < 9; i++) {
+            assertTrue(keys.add(generator.createKey()));
+        }
+        assertEquals(1, executor.tasks.size());
+        // 迟到的填充结果留在备用段中
+        executor.runAll();
+
+        // 同步填充出的段到达水位线时，备用段已就绪，不再提交新的填充任务
+        for (int i = 0; i < 8; i++) {
+            assertTrue(keys.add(generator.createKey()));
+        }
+        assertEquals(0, executor.tasks.size());
+
+        // 备用段没有被覆盖，其中的 id 依旧可用且不重复
+        for (int i = 0; i < 64; i++) {
+            assertTrue(keys.add(generator.createKey()));
+            executor.runAll();
+        }
+        assertEquals(9 + 8 + 64, keys.size());
+    }
+
+    @Test
+    void noAsyncRefillAfterShutdown() {
+        ManualExecutor executor = new ManualExecutor();
+        SegmentSnowFlakeGenerator generator = createGenerator(executor);
+        generator.shutdown();
+
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(keys.add(generator.createKey()));
+        }
+        assertEquals(0, executor.tasks.size());
+        assertEquals(0, executor.executed);
+    }
+
+    @Test
+    void defaultExecutorIsShared() {
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            SegmentSnowFlakeGenerator generator = new SegmentSnowFlakeGenerator(createConfig(i));
+            for (int j = 0; j < 10_000; j++) {
+                assertTrue(keys.add(generator.createKey()));
+            }
+        }
+        long refillThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> "hygge-segment-snowflake-refill".equals(thread.getName()))
+                .count();
+        assertTrue(refillThreads <= 1);
+    }
+
+    private static SegmentSnowFlakeGenerator createGenerator(Executor executor) {
+        Properties properties = createConfig(0);
+        properties.put(SnowFlakeGenerator.ConfigKey.SEGMENT_SIZE, 8);
+        properties.put(SnowFlakeGenerator.ConfigKey.SEGMENT_REFILL_PERCENT, 50);
+        properties.put(SnowFlakeGenerator.ConfigKey.SEGMENT_REFILL_EXECUTOR, executor);
+        return new SegmentSnowFlakeGenerator(properties);
+    }
+
+    private static Properties createConfig(long identityVal) {
+        Properties properties = SnowFlakeGenerator.createDefaultConfig();
+        properties.put(SnowFlakeGenerator.ConfigKey.IDENTITY_VAL, identityVal);
+        return properties;
+    }
+
+    /**
+     * 只在手动调用时执行任务的执行器
+     */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private int executed;
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+                executed++;
+            }
+        }
+    }
+}
@@ -33,11 +33,24 @@ package hygge.util.impl;/*
 
 import hygge.commons.constant.enums.DateTimeFormatModeEnum;
 import hygge.util.UtilCreator;
+import hygge.util.definition.HyggeClock;
 import hygge.util.definition.TimeHelper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Slf4j
 class SnowFlakeGeneratorTest {
@@ -56,6 +69,77 @@ class SnowFlakeGeneratorTest {
         log.info(String.format(" 5 秒共生成 %d 个 id ，无重复：%s ", map.size(), count == map.size()));
     }
 
+    @Test
+    void createIdByCasConcurrently() throws Exception {
+        Properties properties = SnowFlakeGenerator.createDefaultConfig();
+        properties.put(SnowFlakeGenerator.ConfigKey.LOCK_FREE, true);
+        // 序列号只有 8 位，同毫秒内很快耗尽，迫使各线程频繁竞争跨毫秒的 CAS
+        properties.put(SnowFlakeGenerator.ConfigKey.SEQUENCE_PART_LENGTH, 8);
+        SnowFlakeGenerator snowFlakeGenerator = new SnowFlakeGenerator(properties);
+
+        int threadCount = 8;
+        int countPerThread = 20_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threadCount];
+        long[][] results = new long[threadCount][countPerThread];
+        for (int i = 0; i < threadCount; i++) {
+            long[] result = results[i];
+            futures[i] = executorService.submit(() -> {
+                start.await();
+                long last = Long.MIN_VALUE;
+                for (int j = 0; j < countPerThread; j++) {
+                    result[j] = snowFlakeGenerator.createKey();
+                    // 单个线程内拿到的 id 严格递增
+                    assertTrue(result[j] > last);
+                    last = result[j];
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        Set<Long> keys = new HashSet<>(threadCount * countPerThread * 2);
+        for (long[] result : results) {
+            for (long key : result) {
+                assertTrue(keys.add(key));
+            }
+        }
+        assertEquals(threadCount * countPerThread, keys.size());
+    }
+
+    @Test
+    void createKeysAcrossMillisecond() {
+        for (boolean lockFree : new boolean[]{false, true}) {
+            Properties properties = SnowFlakeGenerator.createDefaultConfig();
+            properties.put(SnowFlakeGenerator.ConfigKey.LOCK_FREE, lockFree);
+            // 每毫秒只有 16 个序列号，每读取 3 次时钟前进 1 毫秒
+            properties.put(SnowFlakeGenerator.ConfigKey.SEQUENCE_PART_LENGTH, 4);
+            properties.put(SnowFlakeGenerator.ConfigKey.CLOCK, new SteppingClock(1_600_000_000_000L, 3));
+            SnowFlakeGenerator snowFlakeGenerator = new SnowFlakeGenerator(properties);
+
+            long previous = snowFlakeGenerator.createKey();
+            for (int round = 0; round < 50; round++) {
+                // 批量大小不是 16 的整数倍，每一批都会在某个毫秒的中途开始或结束
+                long[] keys = snowFlakeGenerator.createKeys(37);
+                assertEquals(37, keys.length);
+                for (long key : keys) {
+                    assertTrue(key > previous);
+                    assertTrue(snowFlakeGenerator.getRealTimestampFromId(key) >= snowFlakeGenerator.getRealTimestampFromId(previous));
+                    previous = key;
+                }
+                long single = snowFlakeGenerator.createKey();
+                assertTrue(single > previous);
+                previous = single;
+            }
+            assertTrue(snowFlakeGenerator.getRealTimestampFromId(previous) - 1_600_000_000_000L >= 50 * 38 / 16);
+        }
+    }
+
     @Test
     void analyze() {
         SnowFlakeGenerator snowFlakeGenerator = new SnowFlakeGenerator(0L, 5, 4, 12);
@@ -75,4 +159,23 @@ class SnowFlakeGeneratorTest {
         log.info("混淆后 ID 值：" + encrypted);
         log.info("解析后 ID 值：" + idObfuscator.reveal(encrypted));
     }
+
+    /**
+     * 每读取 step 次前进 1 毫秒的时钟
+     */
+    private static class SteppingClock implements HyggeClock {
+        private final long startTs;
+        private final int step;
+        private final AtomicLong reads = new AtomicLong();
+
+        private SteppingClock(long startTs, int step) {
+            this.startTs = startTs;
+            this.step = step;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return startTs + reads.getAndIncrement() / step;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.util.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class StripedSnowFlakeGeneratorTest {
+    @Test
+    void createIdConcurrently() throws Exception {
+        // 4 个条带，每个条带每毫秒 16 个序列号；线程数多于条带数，部分线程共享同一条带
+        StripedSnowFlakeGenerator generator = createGenerator();
+
+        int threadCount = 8;
+        int countPerThread = 5_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threadCount];
+        long[][] results = new long[threadCount][];
+        for (int i = 0; i < threadCount; i++) {
+            int threadIndex = i;
+            futures[i] = executorService.submit(() -> {
+                long expectedStripe = Thread.currentThread().getId() & 3;
+                start.await();
+                long[] result = new long[countPerThread];
+                long last = Long.MIN_VALUE;
+                for (int j = 0; j < countPerThread; j++) {
+                    // 交替使用单个与批量生成
+                    long[] keys = j % 2 == 0 ? new long[]{generator.createKey()} : generator.createKeys(1);
+                    result[j] = keys[0];
+                    assertTrue(result[j] > last);
+                    assertEquals(expectedStripe, generator.getStripeFromId(result[j]));
+                    assertEquals(3L, generator.getWorkerIdFromId(result[j]));
+                    last = result[j];
+                }
+                results[threadIndex] = result;
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        Set<Long> keys = new HashSet<>(threadCount * countPerThread * 2);
+        for (long[] result : results) {
+            for (long key : result) {
+                assertTrue(keys.add(key));
+            }
+        }
+        assertEquals(threadCount * countPerThread, keys.size());
+    }
+
+    @Test
+    void createKeysWithinStripe() {
+        StripedSnowFlakeGenerator generator = createGenerator();
+        long stripe = Thread.currentThread().getId() & 3;
+
+        // 单批超过条带每毫秒的容量，需要跨越多个毫秒
+        long[] keys = generator.createKeys(100);
+        Set<Long> unique = new HashSet<>();
+        for (int i = 0; i < keys.length; i++) {
+            assertTrue(unique.add(keys[i]));
+            assertEquals(stripe, generator.getStripeFromId(keys[i]));
+            if (i > 0) {
+                assertTrue(keys[i] > keys[i - 1]);
+            }
+        }
+        long first = generator.getRealTimestampFromId(keys[0]);
+        long last = generator.getRealTimestampFromId(keys[keys.length - 1]);
+        assertTrue(last - first >= 100 / 16);
+    }
+
+    private static StripedSnowFlakeGenerator createGenerator() {
+        Properties properties = SnowFlakeGenerator.createDefaultConfig();
+        properties.put(SnowFlakeGenerator.ConfigKey.IDENTITY_VAL, 3L);
+        properties.put(SnowFlakeGenerator.ConfigKey.SEQUENCE_PART_LENGTH, 6);
+        properties.put(SnowFlakeGenerator.ConfigKey.STRIPE_LENGTH, 2);
+        return new StripedSnowFlakeGenerator(properties);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package hygge.util.impl;
+
+import hygge.commons.exception.UtilRuntimeException;
+import hygge.util.definition.WorkerIdLeaseStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Xavier
+ * @date 2026/10/18
+ * @since 1.0
+ */
+class WorkerIdAllocatorTest {
+    @Test
+    void scanIsCapped() {
+        InMemoryLeaseStore leaseStore = new InMemoryLeaseStore();
+        for (long i = 0; i < 8; i++) {
+            leaseStore.leased.add(i);
+        }
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseStore, 10000L, 8);
+
+        // 20 位节点标识有 2 ^ 20 个候选值，但只会尝试前 8 个
+        assertThrows(UtilRuntimeException.class, () -> allocator.allocate(20));
+        assertEquals(8, leaseStore.acquireAttempts.get());
+
+        leaseStore.leased.remove(5L);
+        assertEquals(5L, allocator.allocate(20));
+        allocator.shutdown();
+    }
+
+    @Test
+    void renewFailureIsExposed() throws InterruptedException {
+        InMemoryLeaseStore leaseStore = new InMemoryLeaseStore();
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseStore, 10L);
+        CountDownLatch failed = new CountDownLatch(2);
+        allocator.setRenewFailureListener((workerId, e) -> failed.countDown());
+
+        assertEquals(0L, allocator.allocate(10));
+        leaseStore.renewFailing.set(true);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertTrue(allocator.getConsecutiveRenewFailures() >= 2);
+        assertTrue(allocator.getLastRenewFailure() instanceof UtilRuntimeException);
+
+        // 恢复后状态清零
+        leaseStore.renewFailing.set(false);
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (allocator.getConsecutiveRenewFailures() != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5L);
+        }
+        assertEquals(0, allocator.getConsecutiveRenewFailures());
+        assertNull(allocator.getLastRenewFailure());
+        allocator.shutdown();
+    }
+
+    @Test
+    void reallocateAfterRelease() throws InterruptedException {
+        InMemoryLeaseStore leaseStore = new InMemoryLeaseStore();
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseStore, 10L);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, allocator.allocate(10));
+            allocator.release();
+            assertEquals(-1L, allocator.getWorkerId());
+        }
+        assertTrue(leaseStore.leased.isEmpty());
+
+        // 释放后不再续约(等待可能正在执行的一次续约结束)
+        Thread.sleep(20L);
+        int renewed = leaseStore.renewCount.get();
+        Thread.sleep(50L);
+        assertEquals(Integer.valueOf(renewed), Integer.valueOf(leaseStore.renewCount.get()));
+        allocator.shutdown();
+    }
+
+    @Test
+    void rejectSecondConsumer() {
+        InMemoryLeaseStore leaseStore = new InMemoryLeaseStore();
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseStore);
+        Properties properties = SnowFlakeGenerator.createDefaultConfig();
+        properties.remove(SnowFlakeGenerator.ConfigKey.IDENTITY_VAL);
+        properties.put(SnowFlakeGenerator.ConfigKey.IDENTITY_ALLOCATOR, allocator);
+
+        SnowFlakeGenerator generator = new SnowFlakeGenerator(properties);
+        assertEquals(0L, generator.getWorkerIdFromId(generator.createKey()));
+        // 共用同一个分配器的第二个生成器会拿到相同的 workerId，因此直接拒绝
+        assertThrows(UtilRuntimeException.class, () -> new SnowFlakeGenerator(properties));
+        allocator.shutdown();
+    }
+
+    @Test
+    void shutdownReleasesLease() {
+        InMemoryLeaseStore leaseStore = new InMemoryLeaseStore();
+        WorkerIdAllocator allocator = new WorkerIdAllocator(leaseStore, 10L);
+        assertEquals(0L, allocator.allocate(10));
+
+        allocator.shutdown();
+        allocator.shutdown();
+        assertTrue(leaseStore.leased.isEmpty());
+        assertEquals(-1L, allocator.getWorkerId());
+        assertThrows(UtilRuntimeException.class, () -> allocator.allocate(10));
+    }
+
+    private static class InMemoryLeaseStore implements WorkerIdLeaseStore {
+        private final Set<Long> leased = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger acquireAttempts = new AtomicInteger();
+        private final AtomicInteger renewCount = new AtomicInteger();
+        private final AtomicBoolean renewFailing = new AtomicBoolean();
+
+        @Override
+        public boolean tryAcquire(long workerId) {
+            acquireAttempts.incrementAndGet();
+            return leased.add(workerId);
+        }
+
+        @Override
+        public void renew(long workerId) {
+            renewCount.incrementAndGet();
+            if (renewFailing.get()) {
+                throw new UtilRuntimeException("Lease store unavailable.");
+            }
+        }
+
+        @Override
+        public void release(long workerId) {
+            leased.remove(workerId);
+        }
+    }
+}